@@ -0,0 +1,59 @@
+package org.project.capstone.weather.api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CaffeineCacheManager cacheManager(CacheProperties cacheProperties, ObjectProvider<NamedCacheLoader> cacheLoaders) {
+        Map<String, NamedCacheLoader> loadersByCacheName = cacheLoaders.stream()
+                .collect(Collectors.toMap(NamedCacheLoader::cacheName, Function.identity()));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(buildCaffeine(cacheProperties.defaults()));
+
+        cacheProperties.caches().forEach((cacheName, spec) -> {
+            Caffeine<Object, Object> caffeine = buildCaffeine(spec);
+            NamedCacheLoader cacheLoader = loadersByCacheName.get(cacheName);
+
+            if (spec.refreshAfterWrite() != null) {
+                if (cacheLoader == null) {
+                    throw new IllegalStateException("Cache '" + cacheName + "' sets refresh-after-write but no NamedCacheLoader is registered for it");
+                }
+                caffeine.refreshAfterWrite(spec.refreshAfterWrite());
+            }
+
+            if (cacheLoader == null) {
+                cacheManager.registerCustomCache(cacheName, caffeine.build());
+            } else {
+                cacheManager.registerCustomCache(cacheName, caffeine.build(cacheLoader));
+            }
+        });
+
+        return cacheManager;
+    }
+
+    static Caffeine<Object, Object> buildCaffeine(CacheProperties.CacheSpec spec) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder().recordStats();
+        if (spec.maximumSize() != null) {
+            caffeine.maximumSize(spec.maximumSize());
+        }
+        if (spec.nullExpireAfterWrite() != null) {
+            caffeine.expireAfter(new NullValueAwareExpiry(spec.expireAfterWrite(), spec.nullExpireAfterWrite()));
+        } else if (spec.expireAfterWrite() != null) {
+            caffeine.expireAfterWrite(spec.expireAfterWrite());
+        }
+        return caffeine;
+    }
+}
@@ -0,0 +1,18 @@
+package org.project.capstone.weather.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "application.cache")
+public record CacheProperties(CacheSpec defaults, Map<String, CacheSpec> caches) {
+
+    public CacheProperties {
+        defaults = defaults == null ? new CacheSpec(null, null, null, null) : defaults;
+        caches = caches == null ? Map.of() : caches;
+    }
+
+    public record CacheSpec(Long maximumSize, Duration expireAfterWrite, Duration refreshAfterWrite, Duration nullExpireAfterWrite) {
+    }
+}
@@ -0,0 +1,13 @@
+package org.project.capstone.weather.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.http-cache")
+public record HttpCacheProperties(Duration sensorReportingInterval, boolean serializedPayloads, boolean gzipPayloads) {
+
+    public HttpCacheProperties {
+        sensorReportingInterval = sensorReportingInterval == null ? Duration.ofMinutes(1) : sensorReportingInterval;
+    }
+}
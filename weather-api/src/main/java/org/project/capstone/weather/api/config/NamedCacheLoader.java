@@ -0,0 +1,8 @@
+package org.project.capstone.weather.api.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+public interface NamedCacheLoader extends CacheLoader<Object, Object> {
+
+    String cacheName();
+}
@@ -0,0 +1,34 @@
+package org.project.capstone.weather.api.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.support.NullValue;
+
+import java.time.Duration;
+
+class NullValueAwareExpiry implements Expiry<Object, Object> {
+
+    private final long expireAfterWriteNanos;
+
+    private final long nullExpireAfterWriteNanos;
+
+
+    NullValueAwareExpiry(Duration expireAfterWrite, Duration nullExpireAfterWrite) {
+        this.expireAfterWriteNanos = expireAfterWrite == null ? Long.MAX_VALUE : expireAfterWrite.toNanos();
+        this.nullExpireAfterWriteNanos = nullExpireAfterWrite.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return value instanceof NullValue ? nullExpireAfterWriteNanos : expireAfterWriteNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -49,7 +49,8 @@ public class SecurityConfig {
                                         "/configuration/security",
                                         "/swagger-ui/**",
                                         "/webjars/**",
-                                        "/swagger-ui.html"
+                                        "/swagger-ui.html",
+                                        "/actuator/health/**"
                                 ).permitAll()
                                 .anyRequest().authenticated()
                 )
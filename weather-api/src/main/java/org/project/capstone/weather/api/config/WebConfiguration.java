@@ -1,20 +1,39 @@
 package org.project.capstone.weather.api.config;
 
 import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.dto.HistoryCursor;
+import org.project.capstone.weather.api.dto.series.SeriesAggregation;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.project.capstone.weather.api.dto.series.SeriesMetric;
+import org.project.capstone.weather.api.interceptor.CityAccessInterceptor;
 import org.project.capstone.weather.api.interceptor.UnitsRequestParameterInterceptor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(HttpCacheProperties.class)
 @RequiredArgsConstructor
 public class WebConfiguration implements WebMvcConfigurer {
 
     private final UnitsRequestParameterInterceptor interceptor;
 
+    private final CityAccessInterceptor cityAccessInterceptor;
+
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(interceptor).addPathPatterns("/weather-api/v1/weather-data/**");
+        registry.addInterceptor(cityAccessInterceptor).addPathPatterns("/weather-api/v1/weather-data/**");
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, HistoryCursor.class, HistoryCursor::decode);
+        registry.addConverter(String.class, SeriesBucket.class, SeriesBucket::fromValue);
+        registry.addConverter(String.class, SeriesMetric.class, SeriesMetric::fromValue);
+        registry.addConverter(String.class, SeriesAggregation.class, SeriesAggregation::fromValue);
     }
 }
@@ -1,15 +1,22 @@
 package org.project.capstone.weather.api.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.dto.IngestionReport;
+import org.project.capstone.weather.api.dto.MeasurementBatchRequest;
 import org.project.capstone.weather.api.dto.SensorCreationWrapper;
 import org.project.capstone.weather.api.dto.SensorResponse;
 import org.project.capstone.weather.api.dto.filter.LocationFilter;
+import org.project.capstone.weather.api.service.MeasurementService;
 import org.project.capstone.weather.api.service.SensorService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -19,6 +26,8 @@ public class SensorController {
 
     private final SensorService sensorService;
 
+    private final MeasurementService measurementService;
+
 
     @GetMapping
     public List<SensorResponse> getAllSensors(LocationFilter filter, Pageable pageable) {
@@ -37,6 +46,25 @@ public class SensorController {
         sensorService.addSensor(request.sensor(), request.location());
     }
 
+    @PostMapping("/{sensorId}/measurements")
+    public ResponseEntity<Void> addMeasurements(@PathVariable("sensorId") Integer id,
+                                                @RequestBody @Valid MeasurementBatchRequest request) {
+        boolean writeBehind = measurementService.isWriteBehindEnabled();
+        boolean sensorExists = writeBehind
+                ? measurementService.queueMeasurements(id, request.measurements())
+                : measurementService.addMeasurements(id, request.measurements());
+
+        if (!sensorExists) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.status(writeBehind ? HttpStatus.ACCEPTED : HttpStatus.CREATED).build();
+    }
+
+    @PostMapping(value = "/measurements", consumes = "application/x-ndjson")
+    public IngestionReport importMeasurements(InputStream body) throws IOException {
+        return measurementService.importMeasurements(body);
+    }
+
     @DeleteMapping("/{sensorId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteSensor(@PathVariable("sensorId") Integer id) {
@@ -36,7 +36,7 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('ADMIN') or (authentication.principal.username == @userService.getUsernameById(#id))")
+    @PreAuthorize("hasAuthority('ADMIN') or authentication.principal.userId == #id")
     public UserResponse getUserById(@PathVariable("id") @P("id") Integer id) {
         return userService.getUserById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
@@ -1,18 +1,44 @@
 package org.project.capstone.weather.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.config.HttpCacheProperties;
 import org.project.capstone.weather.api.controller.annotation.TemperatureConvertable;
 import org.project.capstone.weather.api.dto.AverageWeatherResponse;
+import org.project.capstone.weather.api.dto.HistoryCursor;
+import org.project.capstone.weather.api.dto.WeatherHistorySliceResponse;
 import org.project.capstone.weather.api.dto.WeatherResponse;
+import org.project.capstone.weather.api.dto.series.SeriesAggregation;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.project.capstone.weather.api.dto.series.SeriesMetric;
+import org.project.capstone.weather.api.dto.series.SeriesResponse;
+import org.project.capstone.weather.api.interceptor.UnitsContext;
 import org.project.capstone.weather.api.service.WeatherService;
+import org.project.capstone.weather.api.util.cache.SerializedPayload;
+import org.project.capstone.weather.api.util.converter.TemperatureConverter;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @TemperatureConvertable
@@ -20,13 +46,31 @@ import java.util.List;
 @RequestMapping("/weather-api/v1/weather-data")
 public class WeatherController {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final WeatherService weatherService;
 
+    private final ObjectMapper objectMapper;
+
+    private final UnitsContext unitsContext;
+
+    private final HttpCacheProperties httpCacheProperties;
+
 
     @GetMapping("/now")
-    public WeatherResponse getCurrentWeatherByCity(@RequestParam(value = "city", required = false) String cityName) {
-        return weatherService.getLatestWeatherByCity(cityName)
+    public WeatherResponse getCurrentWeatherByCity(@RequestParam(value = "city", required = false) String cityName,
+                                                   ServletWebRequest request) throws IOException {
+        if (httpCacheProperties.serializedPayloads()) {
+            SerializedPayload payload = weatherService.getLatestWeatherPayloadByCity(cityName)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+            if (!isNotModified(payload.createdAt(), request)) {
+                writePayload(payload, request);
+            }
+            return null;
+        }
+        WeatherResponse weather = weatherService.getLatestWeatherByCity(cityName)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return isNotModified(weather.createdAt(), request) ? null : weather;
     }
 
     @GetMapping("{city}/history")
@@ -38,11 +82,56 @@ public class WeatherController {
         return weatherService.getWeatherHistoryByCityAndDateRange(cityName, startDate, endDate);
     }
 
+    @GetMapping(value = "{city}/history/stream", produces = NDJSON_MEDIA_TYPE)
+    public void streamWeatherHistoryByCityAndDateRange(
+            @PathVariable("city") String cityName,
+            @RequestParam(value = "startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+            weatherService.streamWeatherHistoryByCityAndDateRange(cityName, startDate, endDate, weather -> {
+                try {
+                    writer.write(weather);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
     @GetMapping("{city}/history/all")
-    public List<WeatherResponse> getFullWeatherHistoryByCity(@PathVariable("city") String cityName, Pageable pageable) {
+    public List<WeatherResponse> getFullWeatherHistoryByCity(@PathVariable("city") String cityName,
+                                                             Pageable pageable) {
         return weatherService.getFullWeatherHistoryByCity(cityName, pageable);
     }
 
+    @GetMapping("{city}/history/scroll")
+    public WeatherHistorySliceResponse getWeatherHistorySliceByCity(
+            @PathVariable("city") String cityName,
+            @RequestParam(value = "cursor", required = false) HistoryCursor cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return weatherService.getWeatherHistorySliceByCity(cityName, cursor, size);
+    }
+
+    @GetMapping("{city}/series")
+    public SeriesResponse getWeatherSeriesByCity(
+            @PathVariable("city") String cityName,
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "bucket", defaultValue = "1h") SeriesBucket bucket,
+            @RequestParam(value = "metrics", defaultValue = "temperature") List<SeriesMetric> metrics,
+            @RequestParam(value = "agg", defaultValue = "avg") List<SeriesAggregation> aggregations
+    ) {
+        return weatherService.getWeatherSeriesByCity(cityName, from, to, bucket, metrics, aggregations);
+    }
+
     @GetMapping("{city}/7-days-average")
     public AverageWeatherResponse getSevenDaysAverageTemperatureByCity(@PathVariable("city") String city) {
         return weatherService.getSevenDaysAverageTemperatureByCity(city);
@@ -52,4 +141,66 @@ public class WeatherController {
     public List<WeatherResponse> getWeatherByCities(@RequestParam("city") List<String> city) {
         return weatherService.getWeatherByCities(city);
     }
+
+    private boolean isNotModified(LocalDateTime lastModified, ServletWebRequest request) {
+        Instant lastModifiedInstant = lastModified.atZone(ZoneId.systemDefault()).toInstant();
+
+        Duration reportingInterval = httpCacheProperties.sensorReportingInterval();
+        Duration untilNextReading = Duration.between(Instant.now(), lastModifiedInstant.plus(reportingInterval));
+        Duration maxAge = untilNextReading.isNegative()
+                ? Duration.ZERO
+                : untilNextReading.compareTo(reportingInterval) > 0 ? reportingInterval : untilNextReading;
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL,
+                    CacheControl.maxAge(maxAge).cachePublic().mustRevalidate().getHeaderValue());
+        }
+
+        String eTag = "W/\"" + Long.toHexString(lastModifiedInstant.toEpochMilli()) + "-" + TemperatureConverter.normalizeUnits(unitsContext.getUnits()) + "\"";
+        return request.checkNotModified(eTag, lastModifiedInstant.toEpochMilli());
+    }
+
+    private void writePayload(SerializedPayload payload, ServletWebRequest request) throws IOException {
+        HttpServletResponse response = Objects.requireNonNull(request.getResponse());
+        boolean gzip = payload.gzippedBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? payload.gzippedBody() : payload.body();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
 }
@@ -0,0 +1,9 @@
+package org.project.capstone.weather.api.dto;
+
+import java.util.List;
+
+public record IngestionReport(long accepted, long rejected, List<LineReject> rejects) {
+
+    public record LineReject(long line, String reason) {
+    }
+}
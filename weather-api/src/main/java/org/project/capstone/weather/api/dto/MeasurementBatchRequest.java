@@ -0,0 +1,14 @@
+package org.project.capstone.weather.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MeasurementBatchRequest(
+        @NotEmpty(message = "{errors.validation.measurements.size}")
+        @Size(max = 1000, message = "{errors.validation.measurements.size}")
+        List<@Valid @NotNull(message = "{errors.validation.measurements.size}") MeasurementRequest> measurements) {
+}
@@ -0,0 +1,36 @@
+package org.project.capstone.weather.api.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+import org.project.capstone.weather.api.entity.WeatherCondition;
+import org.project.capstone.weather.api.entity.WindDirection;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record MeasurementRequest(
+        @NotNull(message = "{errors.validation.measurement.temperature.null}")
+        Double temperature,
+
+        @NotNull(message = "{errors.validation.measurement.wind_speed.null}")
+        @PositiveOrZero(message = "{errors.validation.measurement.wind_speed.negative}")
+        Double windSpeed,
+
+        @NotNull(message = "{errors.validation.measurement.wind_direction.null}")
+        WindDirection windDirection,
+
+        @NotNull(message = "{errors.validation.measurement.humidity.null}")
+        @DecimalMin(value = "0.0", message = "{errors.validation.measurement.humidity.range}")
+        @DecimalMax(value = "100.0", message = "{errors.validation.measurement.humidity.range}")
+        Double humidity,
+
+        @NotNull(message = "{errors.validation.measurement.weather_condition.null}")
+        WeatherCondition weatherCondition,
+
+        @PastOrPresent(message = "{errors.validation.measurement.created_at.future}")
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,4 @@
+package org.project.capstone.weather.api.dto;
+
+public record SensorLocation(Integer sensorId, Integer locationId, String city) {
+}
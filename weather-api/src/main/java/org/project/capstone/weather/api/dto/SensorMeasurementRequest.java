@@ -0,0 +1,13 @@
+package org.project.capstone.weather.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record SensorMeasurementRequest(
+        @NotNull(message = "{errors.validation.measurement.sensor.null}")
+        Integer sensorId,
+
+        @Valid
+        @NotNull(message = "{errors.validation.measurement.null}")
+        MeasurementRequest measurement) {
+}
@@ -0,0 +1,6 @@
+package org.project.capstone.weather.api.dto;
+
+import java.util.List;
+
+public record WeatherHistorySliceResponse(List<WeatherResponse> items, String nextCursor) {
+}
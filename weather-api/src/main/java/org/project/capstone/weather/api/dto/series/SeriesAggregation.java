@@ -0,0 +1,44 @@
+package org.project.capstone.weather.api.dto.series;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.repository.WeatherRollupRow;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum SeriesAggregation {
+
+    AVG("avg") {
+        @Override
+        public double apply(SeriesMetric metric, WeatherRollupRow row) {
+            return metric.getSum().applyAsDouble(row) / row.readingsCount();
+        }
+    },
+    MIN("min") {
+        @Override
+        public double apply(SeriesMetric metric, WeatherRollupRow row) {
+            return metric.getMin().applyAsDouble(row);
+        }
+    },
+    MAX("max") {
+        @Override
+        public double apply(SeriesMetric metric, WeatherRollupRow row) {
+            return metric.getMax().applyAsDouble(row);
+        }
+    };
+
+    @JsonValue
+    private final String value;
+
+    public abstract double apply(SeriesMetric metric, WeatherRollupRow row);
+
+    public static SeriesAggregation fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(aggregation -> aggregation.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown aggregation: " + value));
+    }
+}
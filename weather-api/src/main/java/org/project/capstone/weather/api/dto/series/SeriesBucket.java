@@ -0,0 +1,47 @@
+package org.project.capstone.weather.api.dto.series;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum SeriesBucket {
+
+    HOUR("1h", ChronoUnit.HOURS, "hour", "weather_hourly"),
+    DAY("1d", ChronoUnit.DAYS, "day", "weather_daily");
+
+    @JsonValue
+    private final String value;
+
+    private final ChronoUnit unit;
+
+    private final String truncField;
+
+    private final String rollupTable;
+
+    public LocalDateTime floor(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+
+    public LocalDateTime ceil(LocalDateTime dateTime) {
+        LocalDateTime floor = floor(dateTime);
+        return floor.isBefore(dateTime) ? floor.plus(1, unit) : floor;
+    }
+
+    public long countBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toSeconds() / unit.getDuration().toSeconds();
+    }
+
+    public static SeriesBucket fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(bucket -> bucket.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown bucket: " + value));
+    }
+}
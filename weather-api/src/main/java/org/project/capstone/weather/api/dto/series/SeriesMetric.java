@@ -0,0 +1,34 @@
+package org.project.capstone.weather.api.dto.series;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.repository.WeatherRollupRow;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+@Getter
+@RequiredArgsConstructor
+public enum SeriesMetric {
+
+    TEMPERATURE("temperature", WeatherRollupRow::temperatureSum, WeatherRollupRow::temperatureMin, WeatherRollupRow::temperatureMax),
+    HUMIDITY("humidity", WeatherRollupRow::humiditySum, WeatherRollupRow::humidityMin, WeatherRollupRow::humidityMax),
+    WIND_SPEED("windSpeed", WeatherRollupRow::windSpeedSum, WeatherRollupRow::windSpeedMin, WeatherRollupRow::windSpeedMax);
+
+    @JsonValue
+    private final String value;
+
+    private final ToDoubleFunction<WeatherRollupRow> sum;
+
+    private final ToDoubleFunction<WeatherRollupRow> min;
+
+    private final ToDoubleFunction<WeatherRollupRow> max;
+
+    public static SeriesMetric fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown metric: " + value));
+    }
+}
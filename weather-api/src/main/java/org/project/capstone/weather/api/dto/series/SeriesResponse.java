@@ -0,0 +1,16 @@
+package org.project.capstone.weather.api.dto.series;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Builder
+public record SeriesResponse(
+        String city,
+        SeriesBucket bucket,
+        List<LocalDateTime> timestamps,
+        List<Long> counts,
+        Map<String, List<Double>> values) {
+}
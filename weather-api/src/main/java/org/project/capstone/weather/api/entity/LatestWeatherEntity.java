@@ -0,0 +1,31 @@
+package org.project.capstone.weather.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "latest_weather")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LatestWeatherEntity {
+
+    @Id
+    @Column(name = "location_id")
+    private Integer locationId;
+
+    @Embedded
+    private MeasurementEmbedded measurement;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id")
+    private LocationEntity location;
+
+}
@@ -14,8 +14,11 @@ import lombok.NoArgsConstructor;
 @Builder
 public class WeatherEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weather_data_id_seq")
+    @SequenceGenerator(name = "weather_data_id_seq", sequenceName = "weather_data_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Integer id;
 
     @Embedded
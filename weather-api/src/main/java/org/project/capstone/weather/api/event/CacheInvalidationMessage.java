@@ -0,0 +1,12 @@
+package org.project.capstone.weather.api.event;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+public record CacheInvalidationMessage(String origin, boolean flushAll, Map<String, Set<LocalDate>> daysByCity) {
+
+    public static CacheInvalidationMessage flushAll(String origin) {
+        return new CacheInvalidationMessage(origin, true, Map.of());
+    }
+}
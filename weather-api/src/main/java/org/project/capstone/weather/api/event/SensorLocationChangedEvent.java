@@ -0,0 +1,10 @@
+package org.project.capstone.weather.api.event;
+
+import org.project.capstone.weather.api.dto.SensorLocation;
+
+public record SensorLocationChangedEvent(Integer sensorId, SensorLocation sensorLocation) {
+
+    public static SensorLocationChangedEvent removed(Integer sensorId) {
+        return new SensorLocationChangedEvent(sensorId, null);
+    }
+}
@@ -0,0 +1,6 @@
+package org.project.capstone.weather.api.event;
+
+import java.util.Set;
+
+public record UserChangedEvent(Integer userId, Set<String> usernames) {
+}
@@ -0,0 +1,18 @@
+package org.project.capstone.weather.api.event;
+
+import org.project.capstone.weather.api.repository.MeasurementRow;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record WeatherMeasurementsSavedEvent(Map<String, Set<LocalDate>> daysByCity) {
+
+    public static WeatherMeasurementsSavedEvent fromRows(Collection<MeasurementRow> rows) {
+        return new WeatherMeasurementsSavedEvent(rows.stream()
+                .collect(Collectors.groupingBy(MeasurementRow::city,
+                        Collectors.mapping(row -> row.measurement().getCreatedAt().toLocalDate(), Collectors.toSet()))));
+    }
+}
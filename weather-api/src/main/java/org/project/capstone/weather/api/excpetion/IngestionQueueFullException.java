@@ -0,0 +1,4 @@
+package org.project.capstone.weather.api.excpetion;
+
+public class IngestionQueueFullException extends RuntimeException {
+}
@@ -0,0 +1,17 @@
+package org.project.capstone.weather.api.excpetion;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidSeriesRangeException extends RuntimeException {
+
+    private final String messageKey;
+
+    private final Object[] args;
+
+    public InvalidSeriesRangeException(String message, String messageKey, Object... args) {
+        super(message);
+        this.messageKey = messageKey;
+        this.args = args;
+    }
+}
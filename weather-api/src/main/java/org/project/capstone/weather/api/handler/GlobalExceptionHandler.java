@@ -2,6 +2,8 @@ package org.project.capstone.weather.api.handler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.excpetion.IngestionQueueFullException;
+import org.project.capstone.weather.api.excpetion.InvalidSeriesRangeException;
 import org.project.capstone.weather.api.excpetion.LocationNotFoundException;
 import org.project.capstone.weather.api.excpetion.UserAlreadyExistsException;
 import org.springframework.context.MessageSource;
@@ -75,6 +77,25 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.badRequest().body(problemDetail);
     }
 
+    @ExceptionHandler(InvalidSeriesRangeException.class)
+    protected ResponseEntity<Object> handleInvalidSeriesRangeException(InvalidSeriesRangeException ex, WebRequest request) {
+        Locale locale = request.getLocale();
+        ProblemDetail problemDetail = createProblemDetail(BAD_REQUEST, "errors.400.title", locale);
+        problemDetail.setProperty("error", messageSource.getMessage(ex.getMessageKey(), ex.getArgs(), ex.getMessage(), locale));
+
+        return ResponseEntity.badRequest().body(problemDetail);
+    }
+
+    @ExceptionHandler(IngestionQueueFullException.class)
+    protected ResponseEntity<ExceptionResponse> handleIngestionQueueFullException(Locale locale) {
+        String message = messageSource.getMessage("errors.503.ingestion_queue_full", new Object[0], locale);
+        ExceptionResponse response = ExceptionResponse.builder().code(503).errorDescription(message).build();
+
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     protected ResponseEntity<ExceptionResponse> handleBadCredentialsException(BadCredentialsException ex, Locale locale) {
 
@@ -0,0 +1,43 @@
+package org.project.capstone.weather.api.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.service.CityAccessStatsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class CityAccessInterceptor implements HandlerInterceptor {
+
+    private final CityAccessStatsService cityAccessStatsService;
+
+
+    @SuppressWarnings({"NullableProblems", "unchecked"})
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) throws Exception {
+
+        if (handler instanceof HandlerMethod) {
+            Map<String, String> pathVariables =
+                    (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            if (pathVariables != null && pathVariables.containsKey("city")) {
+                cityAccessStatsService.recordAccess(pathVariables.get("city"));
+            } else {
+                String[] cities = request.getParameterValues("city");
+                if (cities != null) {
+                    for (String city : cities) {
+                        cityAccessStatsService.recordAccess(city);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package org.project.capstone.weather.api.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.project.capstone.weather.api.dto.MeasurementRequest;
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+
+import java.time.LocalDateTime;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, imports = LocalDateTime.class)
+public interface MeasurementMapper {
+
+    @Mapping(target = "createdAt", source = "createdAt", defaultExpression = "java(LocalDateTime.now())")
+    @Mapping(target = "sensor", ignore = true)
+    MeasurementEmbedded measurementRequestToMeasurement(MeasurementRequest request);
+}
@@ -14,4 +14,11 @@ public class PasswordEncodingMapper {
     public static String encode(String value) {
         return value.startsWith("{bcrypt}") ? value.substring(8) : passwordEncoder.encode(value);
     }
+
+    public static boolean matches(String value, String encoded) {
+        if (encoded == null) {
+            return false;
+        }
+        return value.startsWith("{bcrypt}") ? value.substring(8).equals(encoded) : passwordEncoder.matches(value, encoded);
+    }
 }
@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.project.capstone.weather.api.dto.WeatherResponse;
+import org.project.capstone.weather.api.entity.LatestWeatherEntity;
 import org.project.capstone.weather.api.entity.WeatherCondition;
 import org.project.capstone.weather.api.entity.WeatherEntity;
 
@@ -23,6 +24,16 @@ public interface WeatherMapper {
     @Mapping(target = "feelsLikeTemperature", expression = FEELS_LIKE_TEMP_CALCULATION_EXPR)
     WeatherResponse weatherToWeatherResponse(WeatherEntity weather);
 
+    @Mapping(source = "measurement.temperature", target = "temperature")
+    @Mapping(source = "measurement.windSpeed", target = "windSpeed")
+    @Mapping(source = "measurement.windDirection", target = "windDirection")
+    @Mapping(source = "measurement.humidity", target = "humidity")
+    @Mapping(source = "measurement.weatherCondition", target = "weatherCondition")
+    @Mapping(source = "measurement.createdAt", target = "createdAt")
+    @Mapping(source = "location", target = "locationDto")
+    @Mapping(target = "feelsLikeTemperature", expression = FEELS_LIKE_TEMP_CALCULATION_EXPR)
+    WeatherResponse latestWeatherToWeatherResponse(LatestWeatherEntity weather);
+
     default Double calculateFeelsLikeTemperature(WeatherCondition weatherCondition, Double actualTemperature) {
         if (weatherCondition == null) {
             throw new IllegalStateException("Weather condition cannot be null");
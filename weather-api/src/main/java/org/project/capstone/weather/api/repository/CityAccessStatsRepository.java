@@ -0,0 +1,42 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CityAccessStatsRepository {
+
+    private static final String UPSERT_ACCESS_COUNT_SQL = """
+            INSERT INTO city_access_stats (city, request_count, last_accessed_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (city) DO UPDATE
+                SET request_count    = city_access_stats.request_count + EXCLUDED.request_count,
+                    last_accessed_at = EXCLUDED.last_accessed_at
+            """;
+
+    private static final String FIND_TOP_CITIES_SQL = """
+            SELECT city
+            FROM city_access_stats
+            ORDER BY request_count DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public void addAccessCounts(Map<String, Long> countsByCity) {
+        List<Object[]> batch = countsByCity.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_ACCESS_COUNT_SQL, batch);
+    }
+
+    public List<String> findTopCities(int limit) {
+        return jdbcTemplate.queryForList(FIND_TOP_CITIES_SQL, String.class, limit);
+    }
+}
@@ -0,0 +1,18 @@
+package org.project.capstone.weather.api.repository;
+
+import org.project.capstone.weather.api.entity.LatestWeatherEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LatestWeatherRepository extends JpaRepository<LatestWeatherEntity, Integer> {
+
+    @Query("SELECT lw FROM LatestWeatherEntity lw JOIN FETCH lw.location l WHERE lower(l.city) = lower(:city) ORDER BY lw.measurement.createdAt DESC LIMIT 1")
+    Optional<LatestWeatherEntity> findByCity(@Param("city") String city);
+
+    @Query("SELECT lw FROM LatestWeatherEntity lw JOIN FETCH lw.location l WHERE l.city IN :cities ORDER BY lw.locationId")
+    List<LatestWeatherEntity> findAllByCities(@Param("cities") List<String> cities);
+}
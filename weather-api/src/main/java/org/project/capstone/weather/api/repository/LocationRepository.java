@@ -2,7 +2,9 @@ package org.project.capstone.weather.api.repository;
 
 import org.project.capstone.weather.api.entity.LocationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LocationRepository extends JpaRepository<LocationEntity, Integer> {
@@ -10,4 +12,7 @@ public interface LocationRepository extends JpaRepository<LocationEntity, Intege
     Optional<LocationEntity> findLocationEntitiesByCityAndCountry(String city, String country);
 
     Optional<LocationEntity> findLocationEntityByCity(String city);
+
+    @Query("SELECT l.city FROM LocationEntity l")
+    List<String> findAllCities();
 }
@@ -0,0 +1,36 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+
+@Repository
+@RequiredArgsConstructor
+public class MeasurementDeadLetterRepository {
+
+    private static final String INSERT_DEAD_LETTER_SQL = """
+            INSERT INTO measurement_dead_letters (sensor_id, location_id, temperature, wind_speed, wind_direction,
+                                                  humidity, description, created_at, error)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public void save(MeasurementRow row, String error) {
+        MeasurementEmbedded measurement = row.measurement();
+        jdbcTemplate.update(INSERT_DEAD_LETTER_SQL,
+                row.sensorId(),
+                row.locationId(),
+                measurement.getTemperature(),
+                measurement.getWindSpeed(),
+                measurement.getWindDirection() == null ? null : measurement.getWindDirection().getAbbreviation(),
+                measurement.getHumidity(),
+                measurement.getWeatherCondition() == null ? null : measurement.getWeatherCondition().name(),
+                measurement.getCreatedAt() == null ? null : Timestamp.valueOf(measurement.getCreatedAt()),
+                error);
+    }
+}
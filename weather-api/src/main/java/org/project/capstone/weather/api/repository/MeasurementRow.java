@@ -0,0 +1,6 @@
+package org.project.capstone.weather.api.repository;
+
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+
+public record MeasurementRow(Integer sensorId, Integer locationId, String city, MeasurementEmbedded measurement) {
+}
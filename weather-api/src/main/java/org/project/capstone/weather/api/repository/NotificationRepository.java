@@ -0,0 +1,21 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepository {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public void notify(String channel, String payload) {
+        jdbcTemplate.query(NOTIFY_SQL, (RowCallbackHandler) resultSet -> {
+        }, channel, payload);
+    }
+}
@@ -0,0 +1,73 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepository {
+
+    private static final String INSERT_REVOKED_TOKEN_SQL = """
+            INSERT INTO revoked_tokens (digest_high, digest_low, expires_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (digest_high, digest_low) DO NOTHING
+            """;
+
+    private static final String IS_REVOKED_SQL = """
+            SELECT EXISTS(SELECT 1
+                          FROM revoked_tokens
+                          WHERE digest_high = ?
+                            AND digest_low = ?
+                            AND expires_at > ?)
+            """;
+
+    private static final String COUNT_ACTIVE_SQL = """
+            SELECT count(*)
+            FROM revoked_tokens
+            WHERE expires_at > ?
+            """;
+
+    private static final String FIND_ACTIVE_SQL = """
+            SELECT digest_high, digest_low
+            FROM revoked_tokens
+            WHERE expires_at > ?
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM revoked_tokens
+            WHERE expires_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public void save(long digestHigh, long digestLow, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_REVOKED_TOKEN_SQL, digestHigh, digestLow, Timestamp.from(expiresAt));
+    }
+
+    public boolean isRevoked(long digestHigh, long digestLow, Instant now) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_REVOKED_SQL, Boolean.class,
+                digestHigh, digestLow, Timestamp.from(now)));
+    }
+
+    public long countActive(Instant now) {
+        return Objects.requireNonNullElse(jdbcTemplate.queryForObject(COUNT_ACTIVE_SQL, Long.class, Timestamp.from(now)), 0L);
+    }
+
+    public void forEachActive(Instant now, BiConsumer<Long, Long> digestConsumer) {
+        jdbcTemplate.query(FIND_ACTIVE_SQL,
+                (RowCallbackHandler) resultSet -> digestConsumer.accept(resultSet.getLong("digest_high"), resultSet.getLong("digest_low")),
+                Timestamp.from(now));
+    }
+
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(now));
+    }
+}
@@ -2,17 +2,24 @@ package org.project.capstone.weather.api.repository;
 
 import com.querydsl.core.types.Predicate;
 import jakarta.annotation.Nullable;
+import org.project.capstone.weather.api.dto.SensorLocation;
 import org.project.capstone.weather.api.entity.SensorEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
+import java.util.List;
+
 public interface SensorRepository extends JpaRepository<SensorEntity, Integer>, QuerydslPredicateExecutor<SensorEntity> {
 
     @SuppressWarnings("NullableProblems")
     @EntityGraph(attributePaths = {"location"})
     @Override
     Page<SensorEntity> findAll(@Nullable Predicate predicate, @Nullable Pageable pageable);
+
+    @Query("SELECT new org.project.capstone.weather.api.dto.SensorLocation(s.id, l.id, l.city) FROM SensorEntity s JOIN s.location l")
+    List<SensorLocation> findAllSensorLocations();
 }
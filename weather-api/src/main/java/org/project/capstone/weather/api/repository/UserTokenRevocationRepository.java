@@ -0,0 +1,54 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class UserTokenRevocationRepository {
+
+    private static final String UPSERT_REVOCATION_SQL = """
+            INSERT INTO user_token_revocations (user_id, revoked_before)
+            VALUES (?, ?)
+            ON CONFLICT (user_id) DO UPDATE
+                SET revoked_before = GREATEST(user_token_revocations.revoked_before, EXCLUDED.revoked_before)
+            """;
+
+    private static final String FIND_REVOKED_AFTER_SQL = """
+            SELECT user_id, revoked_before
+            FROM user_token_revocations
+            WHERE revoked_before > ?
+            """;
+
+    private static final String DELETE_REVOKED_BEFORE_SQL = """
+            DELETE FROM user_token_revocations
+            WHERE revoked_before <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public void revoke(Integer userId, Instant revokedBefore) {
+        jdbcTemplate.update(UPSERT_REVOCATION_SQL, userId, Timestamp.from(revokedBefore));
+    }
+
+    public Map<Integer, Instant> findRevokedAfter(Instant cutoff) {
+        Map<Integer, Instant> revocations = new HashMap<>();
+        jdbcTemplate.query(FIND_REVOKED_AFTER_SQL,
+                resultSet -> {
+                    revocations.put(resultSet.getInt("user_id"), resultSet.getTimestamp("revoked_before").toInstant());
+                },
+                Timestamp.from(cutoff));
+        return revocations;
+    }
+
+    public int deleteRevokedBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_REVOKED_BEFORE_SQL, Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,80 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+import org.project.capstone.weather.api.entity.WeatherEntity;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class WeatherCopyRepository {
+
+    private static final String COPY_WEATHER_DATA_SQL = """
+            COPY weather_data (id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, location_id, created_at)
+            FROM STDIN WITH (FORMAT text)
+            """;
+
+    private static final String ALLOCATE_IDS_SQL = "SELECT nextval('weather_data_id_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public long copy(List<MeasurementRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int[] ids = allocateIds(rows.size());
+
+        StringBuilder data = new StringBuilder(rows.size() * 96);
+        for (int i = 0; i < rows.size(); i++) {
+            appendRow(data, ids[i], rows.get(i));
+        }
+
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_WEATHER_DATA_SQL, new StringReader(data.toString()));
+            } catch (IOException e) {
+                throw new SQLException("COPY into weather_data failed", e);
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    private int[] allocateIds(int count) {
+        int[] ids = new int[count];
+        int index = 0;
+        while (index < count) {
+            int blocks = (count - index + WeatherEntity.ID_ALLOCATION_SIZE - 1) / WeatherEntity.ID_ALLOCATION_SIZE;
+            for (Long highValue : jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, blocks)) {
+                long lowValue = Math.max(1, highValue - WeatherEntity.ID_ALLOCATION_SIZE + 1);
+                for (long id = lowValue; id <= highValue && index < count; id++) {
+                    ids[index++] = Math.toIntExact(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void appendRow(StringBuilder data, int id, MeasurementRow row) {
+        MeasurementEmbedded measurement = row.measurement();
+        data.append(id).append('\t')
+                .append(measurement.getTemperature()).append('\t')
+                .append(measurement.getWindSpeed()).append('\t')
+                .append(measurement.getWindDirection().getAbbreviation()).append('\t')
+                .append(measurement.getHumidity()).append('\t')
+                .append(measurement.getWeatherCondition().name()).append('\t')
+                .append(row.sensorId()).append('\t')
+                .append(row.locationId()).append('\t')
+                .append(measurement.getCreatedAt()).append('\n');
+    }
+}
@@ -0,0 +1,86 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class WeatherPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "weather_data_";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT child.relname
+            FROM pg_inherits
+                     JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE pg_inherits.inhparent = 'weather_data'::regclass
+              AND child.relname ~ '^weather_data_[0-9]{4}_[0-9]{2}$'
+            """;
+
+    private static final String DEFAULT_PARTITION = "weather_data_default";
+
+    private static final String DEFAULT_PARTITION_HAS_ROWS_SQL = """
+            SELECT EXISTS(SELECT 1
+                          FROM weather_data_default
+                          WHERE created_at >= ?
+                            AND created_at < ?)
+            """;
+
+    private static final String MOVE_DEFAULT_PARTITION_ROWS_SQL = """
+            WITH moved AS (
+                DELETE FROM weather_data_default
+                WHERE created_at >= ?
+                  AND created_at < ?
+                RETURNING *)
+            INSERT INTO %s
+            SELECT * FROM moved
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX_FORMATTER))
+                .sorted()
+                .toList();
+    }
+
+    @Transactional
+    public void createMonthlyPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String partitionName = partitionName(month);
+
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(DEFAULT_PARTITION_HAS_ROWS_SQL, Boolean.class, from, to))) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF weather_data FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(partitionName, from, to));
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE weather_data DETACH PARTITION %s".formatted(DEFAULT_PARTITION));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF weather_data FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(partitionName, from, to));
+        jdbcTemplate.update(MOVE_DEFAULT_PARTITION_ROWS_SQL.formatted(partitionName), from, to);
+        jdbcTemplate.execute("ALTER TABLE weather_data ATTACH PARTITION %s DEFAULT".formatted(DEFAULT_PARTITION));
+    }
+
+    public void detachAndDropMonthlyPartition(YearMonth month) {
+        String partitionName = partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE weather_data DETACH PARTITION %s".formatted(partitionName));
+        jdbcTemplate.execute("DROP TABLE %s".formatted(partitionName));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX_FORMATTER);
+    }
+}
@@ -0,0 +1,215 @@
+package org.project.capstone.weather.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class WeatherRollupRepository {
+
+    private static final String WATERMARK_NAME = "weather_rollup";
+
+    private static final String FIND_WATERMARK_FOR_UPDATE_SQL = """
+            SELECT processed_xid FROM rollup_watermark WHERE name = :name FOR UPDATE
+            """;
+
+    private static final String FIND_ROLLUP_UPPER_BOUND_SQL = """
+            SELECT pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT
+            """;
+
+    private static final String UPDATE_WATERMARK_SQL = """
+            UPDATE rollup_watermark SET processed_xid = :processedXid WHERE name = :name
+            """;
+
+    private static final String ROLLUP_UPSERT_SET_CLAUSE = """
+            ON CONFLICT (location_id, bucket_start) DO UPDATE
+                SET readings_count  = EXCLUDED.readings_count,
+                    temperature_sum = EXCLUDED.temperature_sum,
+                    temperature_min = EXCLUDED.temperature_min,
+                    temperature_max = EXCLUDED.temperature_max,
+                    humidity_sum    = EXCLUDED.humidity_sum,
+                    humidity_min    = EXCLUDED.humidity_min,
+                    humidity_max    = EXCLUDED.humidity_max,
+                    wind_speed_sum  = EXCLUDED.wind_speed_sum,
+                    wind_speed_min  = EXCLUDED.wind_speed_min,
+                    wind_speed_max  = EXCLUDED.wind_speed_max
+            """;
+
+    private static final String REFRESH_HOURLY_SQL = """
+            INSERT INTO weather_hourly (location_id, bucket_start, readings_count,
+                                        temperature_sum, temperature_min, temperature_max,
+                                        humidity_sum, humidity_min, humidity_max,
+                                        wind_speed_sum, wind_speed_min, wind_speed_max)
+            SELECT w.location_id, touched.bucket_start, count(*),
+                   sum(w.temperature), min(w.temperature), max(w.temperature),
+                   sum(w.humidity), min(w.humidity), max(w.humidity),
+                   sum(w.wind_speed), min(w.wind_speed), max(w.wind_speed)
+            FROM (SELECT DISTINCT location_id, date_trunc('hour', created_at) AS bucket_start
+                  FROM weather_data
+                  WHERE ingest_xid >= :from
+                    AND ingest_xid < :to
+                    AND location_id IS NOT NULL) touched
+                     JOIN weather_data w ON w.location_id = touched.location_id
+                AND w.created_at >= touched.bucket_start
+                AND w.created_at < touched.bucket_start + INTERVAL '1 hour'
+            WHERE w.ingest_xid < :to
+            GROUP BY w.location_id, touched.bucket_start
+            """ + ROLLUP_UPSERT_SET_CLAUSE;
+
+    private static final String REFRESH_DAILY_SQL = """
+            INSERT INTO weather_daily (location_id, bucket_start, readings_count,
+                                       temperature_sum, temperature_min, temperature_max,
+                                       humidity_sum, humidity_min, humidity_max,
+                                       wind_speed_sum, wind_speed_min, wind_speed_max)
+            SELECT h.location_id, touched.bucket_start, sum(h.readings_count),
+                   sum(h.temperature_sum), min(h.temperature_min), max(h.temperature_max),
+                   sum(h.humidity_sum), min(h.humidity_min), max(h.humidity_max),
+                   sum(h.wind_speed_sum), min(h.wind_speed_min), max(h.wind_speed_max)
+            FROM (SELECT DISTINCT location_id, date_trunc('day', created_at) AS bucket_start
+                  FROM weather_data
+                  WHERE ingest_xid >= :from
+                    AND ingest_xid < :to
+                    AND location_id IS NOT NULL) touched
+                     JOIN weather_hourly h ON h.location_id = touched.location_id
+                AND h.bucket_start >= touched.bucket_start
+                AND h.bucket_start < touched.bucket_start + INTERVAL '1 day'
+            GROUP BY h.location_id, touched.bucket_start
+            """ + ROLLUP_UPSERT_SET_CLAUSE;
+
+    private static final String AVERAGE_TEMPERATURE_BY_CITY_SQL = """
+            SELECT sum(readings.temperature_sum) / sum(readings.readings_count)
+            FROM (SELECT h.temperature_sum, h.readings_count
+                  FROM weather_hourly h
+                           JOIN locations l ON l.id = h.location_id
+                  WHERE lower(l.city) = lower(:city)
+                    AND h.bucket_start >= :wholeHoursStart
+                    AND h.bucket_start <= :end
+                  UNION ALL
+                  SELECT w.temperature, 1
+                  FROM weather_data w
+                           JOIN locations l ON l.id = w.location_id
+                  WHERE lower(l.city) = lower(:city)
+                    AND w.created_at >= :start
+                    AND w.created_at < :wholeHoursStart
+                  UNION ALL
+                  SELECT w.temperature, 1
+                  FROM weather_data w
+                           JOIN locations l ON l.id = w.location_id
+                  WHERE lower(l.city) = lower(:city)
+                    AND w.ingest_xid >= (SELECT processed_xid FROM rollup_watermark WHERE name = :name)
+                    AND w.created_at >= :wholeHoursStart
+                    AND w.created_at <= :end) readings
+            """;
+
+    private static final String SERIES_BY_CITY_SQL = """
+            SELECT readings.bucket_start,
+                   sum(readings.readings_count) AS readings_count,
+                   sum(readings.temperature_sum) AS temperature_sum,
+                   min(readings.temperature_min) AS temperature_min,
+                   max(readings.temperature_max) AS temperature_max,
+                   sum(readings.humidity_sum) AS humidity_sum,
+                   min(readings.humidity_min) AS humidity_min,
+                   max(readings.humidity_max) AS humidity_max,
+                   sum(readings.wind_speed_sum) AS wind_speed_sum,
+                   min(readings.wind_speed_min) AS wind_speed_min,
+                   max(readings.wind_speed_max) AS wind_speed_max
+            FROM (SELECT r.bucket_start, r.readings_count,
+                         r.temperature_sum, r.temperature_min, r.temperature_max,
+                         r.humidity_sum, r.humidity_min, r.humidity_max,
+                         r.wind_speed_sum, r.wind_speed_min, r.wind_speed_max
+                  FROM %1$s r
+                           JOIN locations l ON l.id = r.location_id
+                  WHERE lower(l.city) = lower(:city)
+                    AND r.bucket_start >= :from
+                    AND r.bucket_start < :to
+                  UNION ALL
+                  SELECT date_trunc('%2$s', w.created_at), 1,
+                         w.temperature, w.temperature, w.temperature,
+                         w.humidity, w.humidity, w.humidity,
+                         w.wind_speed, w.wind_speed, w.wind_speed
+                  FROM weather_data w
+                           JOIN locations l ON l.id = w.location_id
+                  WHERE lower(l.city) = lower(:city)
+                    AND w.ingest_xid >= (SELECT processed_xid FROM rollup_watermark WHERE name = :name)
+                    AND w.created_at >= :from
+                    AND w.created_at < :to) readings
+            GROUP BY readings.bucket_start
+            ORDER BY readings.bucket_start
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+
+    public long lockWatermark() {
+        return jdbcTemplate.queryForObject(FIND_WATERMARK_FOR_UPDATE_SQL,
+                new MapSqlParameterSource("name", WATERMARK_NAME), Long.class);
+    }
+
+    public long findRollupUpperBound() {
+        return jdbcTemplate.queryForObject(FIND_ROLLUP_UPPER_BOUND_SQL, new MapSqlParameterSource(), Long.class);
+    }
+
+    public int refreshHourly(long fromXid, long toXid) {
+        return jdbcTemplate.update(REFRESH_HOURLY_SQL, rangeParameters(fromXid, toXid));
+    }
+
+    public int refreshDaily(long fromXid, long toXid) {
+        return jdbcTemplate.update(REFRESH_DAILY_SQL, rangeParameters(fromXid, toXid));
+    }
+
+    public void updateWatermark(long processedXid) {
+        jdbcTemplate.update(UPDATE_WATERMARK_SQL, new MapSqlParameterSource()
+                .addValue("name", WATERMARK_NAME)
+                .addValue("processedXid", processedXid));
+    }
+
+    public Optional<Double> findAverageTemperatureByCity(String city, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime startHour = start.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime wholeHoursStart = startHour.isBefore(start) ? startHour.plusHours(1) : start;
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("city", city)
+                .addValue("start", start)
+                .addValue("wholeHoursStart", wholeHoursStart)
+                .addValue("end", end)
+                .addValue("name", WATERMARK_NAME);
+
+        return Optional.ofNullable(jdbcTemplate.queryForObject(AVERAGE_TEMPERATURE_BY_CITY_SQL, parameters, Double.class));
+    }
+
+    public List<WeatherRollupRow> findSeriesByCity(String city, SeriesBucket bucket, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("city", city)
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("name", WATERMARK_NAME);
+
+        return jdbcTemplate.query(SERIES_BY_CITY_SQL.formatted(bucket.getRollupTable(), bucket.getTruncField()), parameters,
+                (rs, rowNum) -> new WeatherRollupRow(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getLong("readings_count"),
+                        rs.getDouble("temperature_sum"),
+                        rs.getDouble("temperature_min"),
+                        rs.getDouble("temperature_max"),
+                        rs.getDouble("humidity_sum"),
+                        rs.getDouble("humidity_min"),
+                        rs.getDouble("humidity_max"),
+                        rs.getDouble("wind_speed_sum"),
+                        rs.getDouble("wind_speed_min"),
+                        rs.getDouble("wind_speed_max")));
+    }
+
+    private static MapSqlParameterSource rangeParameters(long fromXid, long toXid) {
+        return new MapSqlParameterSource()
+                .addValue("from", fromXid)
+                .addValue("to", toXid);
+    }
+}
@@ -0,0 +1,17 @@
+package org.project.capstone.weather.api.repository;
+
+import java.time.LocalDateTime;
+
+public record WeatherRollupRow(
+        LocalDateTime bucketStart,
+        long readingsCount,
+        double temperatureSum,
+        double temperatureMin,
+        double temperatureMax,
+        double humiditySum,
+        double humidityMin,
+        double humidityMax,
+        double windSpeedSum,
+        double windSpeedMin,
+        double windSpeedMax) {
+}
@@ -1,43 +1,101 @@
 package org.project.capstone.weather.api.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${application.security.jwt.secret}")
-    private String secret;
+    public static final String USER_ID_CLAIM = "userId";
 
-    @Value("${application.security.jwt.expiration}")
-    private long jwtExpiration;
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    private final long jwtExpiration;
 
     private final TokenBlackListService blackListService;
 
+    private final TokenRevocationService revocationService;
+
+    private final Key signingKey;
+
+    private final JwtParser parser;
+
+    private final Cache<TokenDigest, Claims> verifiedClaims;
+
+
+    public JwtService(@Value("${application.security.jwt.secret}") String secret,
+                      @Value("${application.security.jwt.expiration}") long jwtExpiration,
+                      @Value("${application.security.jwt.claims-cache.maximum-size:10000}") long claimsCacheSize,
+                      @Value("${application.security.jwt.claims-cache.max-ttl:PT15M}") Duration claimsCacheMaxTtl,
+                      TokenBlackListService blackListService,
+                      TokenRevocationService revocationService) {
+        this.jwtExpiration = jwtExpiration;
+        this.blackListService = blackListService;
+        this.revocationService = revocationService;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new ClaimsExpiry(claimsCacheMaxTtl))
+                .build();
+    }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
+    public Claims parseClaims(String token) {
+        return parseClaims(token, TokenDigest.of(token));
+    }
+
+    public Claims parseClaims(String token, TokenDigest digest) {
+        return verifiedClaims.get(digest, key -> parser.parseClaimsJws(token).getBody());
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return !blackListService.isTokenBlackListed(token) &&
-               username.equals(userDetails.getUsername()) &&
-               !isTokenExpired(token);
+        TokenDigest digest = TokenDigest.of(token);
+        return isTokenValid(digest, parseClaims(token, digest), userDetails);
+    }
+
+    public boolean isTokenValid(TokenDigest digest, Claims claims, UserDetails userDetails) {
+        return !blackListService.isTokenBlackListed(digest) &&
+               claims.getSubject().equals(userDetails.getUsername()) &&
+               !isTokenExpired(claims) &&
+               !isTokenRevoked(claims);
+    }
+
+    public Optional<JwtUserDetails> toUserDetails(Claims claims) {
+        Integer userId = claims.get(USER_ID_CLAIM, Integer.class);
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (userId == null || authorities == null) {
+            return Optional.empty();
+        }
+        List<SimpleGrantedAuthority> grantedAuthorities = authorities.stream()
+                .map(String::valueOf)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        return Optional.of(new JwtUserDetails(userId, claims.getSubject(), grantedAuthorities));
     }
 
     public String extractUsername(String token) {
@@ -45,8 +103,7 @@ public class JwtService {
     }
 
     public <T> T extractClaims(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
     private String buildToken(Map<String, Object> extraClaims,
@@ -63,29 +120,38 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .claim("authorities", authorities)
-                .signWith(getSignInKey())
+                .claim(AUTHORITIES_CLAIM, authorities)
+                .signWith(signingKey)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaims(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private boolean isTokenRevoked(Claims claims) {
+        Integer userId = claims.get(USER_ID_CLAIM, Integer.class);
+        return userId != null && revocationService.isRevoked(userId, claims.getIssuedAt());
     }
 
-    private Key getSignInKey() {
-        byte[] decodedKey = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(decodedKey);
+    private record ClaimsExpiry(Duration maxTtl) implements Expiry<TokenDigest, Claims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Claims claims, long currentTime) {
+            long untilExpiration = claims.getExpiration() == null
+                    ? maxTtl.toMillis()
+                    : claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, Math.min(untilExpiration, maxTtl.toMillis()))).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,169 @@
+package org.project.capstone.weather.api.security;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.StampedLock;
+
+class RevokedTokenTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int SLOT_WIDTH = 3;
+
+    private final StampedLock lock = new StampedLock();
+
+    private final PriorityQueue<RevokedToken> expiryQueue =
+            new PriorityQueue<>(Comparator.comparingLong(RevokedToken::evictAtMillis));
+
+    private long[] slots = new long[INITIAL_CAPACITY * SLOT_WIDTH];
+
+    private int size;
+
+
+    boolean add(long high, long low, long evictAtMillis) {
+        long stamp = lock.writeLock();
+        try {
+            if (indexOf(slots, high, low) >= 0) {
+                return false;
+            }
+            if ((size + 1) * 2 > capacity(slots)) {
+                resize(capacity(slots) * 2);
+            }
+            put(slots, high, low, evictAtMillis);
+            size++;
+            expiryQueue.add(new RevokedToken(high, low, evictAtMillis));
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean contains(long high, long low) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = indexOf(slots, high, low) >= 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = indexOf(slots, high, low) >= 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    int purgeExpired(long nowMillis) {
+        int purged = 0;
+        long stamp = lock.writeLock();
+        try {
+            while (!expiryQueue.isEmpty() && expiryQueue.peek().evictAtMillis() <= nowMillis) {
+                RevokedToken expired = expiryQueue.poll();
+                remove(expired.high(), expired.low());
+                purged++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return purged;
+    }
+
+    void copyTo(TokenBloomFilter bloomFilter) {
+        long stamp = lock.readLock();
+        try {
+            for (int index = 0; index < capacity(slots); index++) {
+                if (!isEmpty(slots, index)) {
+                    bloomFilter.put(slots[index * SLOT_WIDTH], slots[index * SLOT_WIDTH + 1]);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void remove(long high, long low) {
+        int mask = capacity(slots) - 1;
+        int hole = indexOf(slots, high, low);
+        if (hole < 0) {
+            return;
+        }
+
+        int next = (hole + 1) & mask;
+        while (!isEmpty(slots, next)) {
+            int home = home(slots[next * SLOT_WIDTH], slots[next * SLOT_WIDTH + 1], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                System.arraycopy(slots, next * SLOT_WIDTH, slots, hole * SLOT_WIDTH, SLOT_WIDTH);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole * SLOT_WIDTH] = 0;
+        slots[hole * SLOT_WIDTH + 1] = 0;
+        slots[hole * SLOT_WIDTH + 2] = 0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] previous = slots;
+        long[] resized = new long[capacity * SLOT_WIDTH];
+        for (int index = 0; index < capacity(previous); index++) {
+            if (!isEmpty(previous, index)) {
+                int offset = index * SLOT_WIDTH;
+                put(resized, previous[offset], previous[offset + 1], previous[offset + 2]);
+            }
+        }
+        slots = resized;
+    }
+
+    private static void put(long[] table, long high, long low, long evictAtMillis) {
+        int mask = capacity(table) - 1;
+        int index = home(high, low, mask);
+        while (!isEmpty(table, index)) {
+            index = (index + 1) & mask;
+        }
+        int offset = index * SLOT_WIDTH;
+        table[offset] = high;
+        table[offset + 1] = low;
+        table[offset + 2] = evictAtMillis;
+    }
+
+    private static int indexOf(long[] table, long high, long low) {
+        int mask = capacity(table) - 1;
+        int index = home(high, low, mask);
+        for (int probes = 0; probes <= mask; probes++) {
+            int offset = index * SLOT_WIDTH;
+            if (table[offset] == high && table[offset + 1] == low) {
+                return index;
+            }
+            if (table[offset] == 0 && table[offset + 1] == 0) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean isEmpty(long[] table, int index) {
+        return table[index * SLOT_WIDTH] == 0 && table[index * SLOT_WIDTH + 1] == 0;
+    }
+
+    private static int home(long high, long low, int mask) {
+        long mixed = high ^ low;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private static int capacity(long[] table) {
+        return table.length / SLOT_WIDTH;
+    }
+
+    private record RevokedToken(long high, long low, long evictAtMillis) {
+    }
+}
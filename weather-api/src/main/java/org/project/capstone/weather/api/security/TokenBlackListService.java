@@ -1,23 +1,164 @@
 package org.project.capstone.weather.api.security;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.NotificationRepository;
+import org.project.capstone.weather.api.repository.RevokedTokenRepository;
+import org.project.capstone.weather.api.service.NotificationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.time.Instant;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlackListService {
+public class TokenBlackListService implements NotificationHandler, ApplicationRunner {
 
-    private final Set<String> blackList = ConcurrentHashMap.newKeySet();
+    public static final String REVOKED_TOKENS_CHANNEL = "revoked_tokens";
 
+    private final RevokedTokenRepository revokedTokenRepository;
 
-    public void addToken(String token) {
-        blackList.add(token);
+    private final NotificationRepository notificationRepository;
+
+    private final Duration recentWindow;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private final RevokedTokenTable recentRevocations = new RevokedTokenTable();
+
+    private final Cache<TokenDigest, Boolean> persistedLookups;
+
+    private final Object bloomFilterMonitor = new Object();
+
+    private volatile TokenBloomFilter bloomFilter;
+
+
+    public TokenBlackListService(RevokedTokenRepository revokedTokenRepository,
+                                 NotificationRepository notificationRepository,
+                                 @Value("${application.security.jwt.blacklist.recent-window:PT1H}") Duration recentWindow,
+                                 @Value("${application.security.jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+                                 @Value("${application.security.jwt.blacklist.false-positive-probability:0.01}") double falsePositiveProbability,
+                                 @Value("${application.security.jwt.blacklist.lookup-cache-ttl:PT5M}") Duration lookupCacheTtl) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.notificationRepository = notificationRepository;
+        this.recentWindow = recentWindow;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.persistedLookups = Caffeine.newBuilder()
+                .maximumSize(expectedInsertions)
+                .expireAfterWrite(lookupCacheTtl)
+                .build();
+    }
+
+    public void addToken(String token, Instant expiresAt) {
+        TokenDigest digest = TokenDigest.of(token);
+        long expiresAtMillis = expiresAt.toEpochMilli();
+
+        revokedTokenRepository.save(digest.high(), digest.low(), expiresAt);
+        notificationRepository.notify(REVOKED_TOKENS_CHANNEL, digest.high() + ":" + digest.low() + ":" + expiresAtMillis);
+        apply(digest.high(), digest.low(), expiresAtMillis);
+    }
+
+    public boolean isTokenBlackListed(TokenDigest digest) {
+        TokenBloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(digest.high(), digest.low())) {
+            return false;
+        }
+        if (recentRevocations.contains(digest.high(), digest.low())) {
+            return true;
+        }
+        return isPersistedRevocation(digest);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuildFilter();
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.jwt.blacklist.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            rebuildFilter();
+        } catch (DataAccessException e) {
+            log.warn("Revoked token filter rebuild failed, keeping the previous filter", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.jwt.blacklist.purge-interval:PT1M}")
+    public void purgeExpired() {
+        purgeExpired(Instant.now());
+    }
+
+    @Override
+    public String channel() {
+        return REVOKED_TOKENS_CHANNEL;
+    }
+
+    @Override
+    public void handleNotification(String payload) {
+        String[] parts = payload.split(":");
+        apply(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    @Override
+    public void resynchronize() {
+        refresh();
+    }
+
+    int purgeExpired(Instant now) {
+        int purged = recentRevocations.purgeExpired(now.toEpochMilli());
+        if (purged > 0) {
+            log.debug("Purged {} recent token revocations", purged);
+        }
+        return purged;
+    }
+
+    private void rebuildFilter() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        long active = revokedTokenRepository.countActive(now);
+        TokenBloomFilter rebuilt = new TokenBloomFilter(Math.max(expectedInsertions, active * 2), falsePositiveProbability);
+        revokedTokenRepository.forEachActive(now, rebuilt::put);
+        synchronized (bloomFilterMonitor) {
+            recentRevocations.copyTo(rebuilt);
+            bloomFilter = rebuilt;
+        }
+        persistedLookups.invalidateAll();
+        log.debug("Revoked token filter rebuilt with {} persisted revocations", active);
+    }
+
+    private void apply(long high, long low, long expiresAtMillis) {
+        long evictAtMillis = Math.min(expiresAtMillis, System.currentTimeMillis() + recentWindow.toMillis());
+        synchronized (bloomFilterMonitor) {
+            recentRevocations.add(high, low, evictAtMillis);
+            TokenBloomFilter filter = bloomFilter;
+            if (filter != null) {
+                filter.put(high, low);
+            }
+        }
+        persistedLookups.put(new TokenDigest(high, low), Boolean.TRUE);
     }
 
-    public Boolean isTokenBlackListed(String token) {
-        return blackList.contains(token);
+    private boolean isPersistedRevocation(TokenDigest digest) {
+        Boolean revoked = persistedLookups.getIfPresent(digest);
+        if (revoked != null) {
+            return revoked;
+        }
+        try {
+            revoked = revokedTokenRepository.isRevoked(digest.high(), digest.low(), Instant.now());
+            persistedLookups.put(digest, revoked);
+            return revoked;
+        } catch (DataAccessException e) {
+            log.warn("Revoked token lookup failed, rejecting the token", e);
+            return true;
+        }
     }
 }
@@ -0,0 +1,43 @@
+package org.project.capstone.weather.api.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class TokenBloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+
+    TokenBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long requiredBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+        this.bits = new AtomicLongArray(Math.toIntExact(Math.max(1, (requiredBits + 63) / 64)));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN_2));
+    }
+
+    void put(long high, long low) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = position(high, low, i);
+            bits.getAndAccumulate((int) (bit >>> 6), 1L << bit, (current, mask) -> current | mask);
+        }
+    }
+
+    boolean mightContain(long high, long low) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = position(high, low, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long position(long high, long low, int index) {
+        return Math.floorMod(high + index * low, bitCount);
+    }
+}
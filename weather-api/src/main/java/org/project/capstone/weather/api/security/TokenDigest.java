@@ -0,0 +1,20 @@
+package org.project.capstone.weather.api.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public record TokenDigest(long high, long low) {
+
+    public static TokenDigest of(String token) {
+        try {
+            ByteBuffer hash = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+            long high = hash.getLong();
+            long low = hash.getLong();
+            return new TokenDigest(high, high == 0 && low == 0 ? 1 : low);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.project.capstone.weather.api.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.NotificationRepository;
+import org.project.capstone.weather.api.repository.UserTokenRevocationRepository;
+import org.project.capstone.weather.api.service.NotificationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class TokenRevocationService implements NotificationHandler {
+
+    public static final String REVOCATIONS_CHANNEL = "user_tokens_revoked";
+
+    private final UserTokenRevocationRepository revocationRepository;
+
+    private final NotificationRepository notificationRepository;
+
+    private final Duration tokenLifetime;
+
+    private final Map<Integer, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+
+    public TokenRevocationService(UserTokenRevocationRepository revocationRepository,
+                                  NotificationRepository notificationRepository,
+                                  @Value("${application.security.jwt.expiration}") long jwtExpiration) {
+        this.revocationRepository = revocationRepository;
+        this.notificationRepository = notificationRepository;
+        this.tokenLifetime = Duration.ofMillis(jwtExpiration);
+    }
+
+    public void revokeTokens(Integer userId) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationRepository.revoke(userId, now);
+        notificationRepository.notify(REVOCATIONS_CHANNEL, userId + ":" + now.toEpochMilli());
+        apply(userId, now);
+        log.info("Tokens issued to user {} before {} are revoked", userId, now);
+    }
+
+    public boolean isRevoked(Integer userId, Date issuedAt) {
+        Instant revoked = revokedBefore.get(userId);
+        return revoked != null
+               && (issuedAt == null || issuedAt.toInstant().truncatedTo(ChronoUnit.SECONDS).isBefore(revoked.truncatedTo(ChronoUnit.SECONDS)));
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.jwt.revocation.refresh-interval:PT5M}")
+    public void refresh() {
+        Instant cutoff = Instant.now().minus(tokenLifetime);
+        try {
+            revocationRepository.deleteRevokedBefore(cutoff);
+            revocationRepository.findRevokedAfter(cutoff).forEach(this::apply);
+            revokedBefore.values().removeIf(revoked -> !revoked.isAfter(cutoff));
+            log.debug("Token revocations refreshed, {} users revoked", revokedBefore.size());
+        } catch (DataAccessException e) {
+            log.warn("Token revocation refresh failed, keeping the previous revocations", e);
+        }
+    }
+
+    @Override
+    public String channel() {
+        return REVOCATIONS_CHANNEL;
+    }
+
+    @Override
+    public void handleNotification(String payload) {
+        int separator = payload.indexOf(':');
+        Integer userId = Integer.valueOf(payload.substring(0, separator));
+        Instant revoked = Instant.ofEpochMilli(Long.parseLong(payload.substring(separator + 1)));
+        apply(userId, revoked);
+    }
+
+    @Override
+    public void resynchronize() {
+        refresh();
+    }
+
+    private void apply(Integer userId, Instant revoked) {
+        revokedBefore.merge(userId, revoked, (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+    }
+}
@@ -16,6 +16,10 @@ public class UserEntityDetails implements UserDetails {
     private final UserEntity userEntity;
 
 
+    public Integer getUserId() {
+        return userEntity.getId();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(userEntity.getRole());
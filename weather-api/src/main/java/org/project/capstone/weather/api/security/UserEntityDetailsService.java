@@ -1,7 +1,10 @@
 package org.project.capstone.weather.api.security;
 
 import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.entity.UserEntity;
 import org.project.capstone.weather.api.repository.UserRepository;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -19,4 +22,22 @@ public class UserEntityDetailsService implements UserDetailsService {
                 .map(UserEntityDetails::new)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
+
+    @Cacheable(CacheKeys.USER_DETAILS_CACHE)
+    public UserEntityDetails loadPrincipalByUsername(String username) throws UsernameNotFoundException {
+        return userRepository.findByEmail(username)
+                .map(UserEntityDetailsService::withoutCredentials)
+                .map(UserEntityDetails::new)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    private static UserEntity withoutCredentials(UserEntity user) {
+        return UserEntity.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .firstname(user.getFirstname())
+                .lastname(user.getLastname())
+                .role(user.getRole())
+                .build();
+    }
 }
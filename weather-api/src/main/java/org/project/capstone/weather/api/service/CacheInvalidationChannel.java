@@ -0,0 +1,98 @@
+package org.project.capstone.weather.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.event.CacheInvalidationMessage;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CacheInvalidationChannel implements NotificationHandler {
+
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final NotificationRepository notificationRepository;
+
+    private final CacheService cacheService;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final String channel;
+
+
+    public CacheInvalidationChannel(NotificationRepository notificationRepository,
+                                    CacheService cacheService,
+                                    ObjectMapper objectMapper,
+                                    @Value("${application.cache.invalidation.enabled:false}") boolean enabled,
+                                    @Value("${application.cache.invalidation.channel:weather_cache_invalidation}") String channel) {
+        this.notificationRepository = notificationRepository;
+        this.cacheService = cacheService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void broadcast(WeatherMeasurementsSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String payload = serialize(new CacheInvalidationMessage(nodeId, false, event.daysByCity()));
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            payload = serialize(CacheInvalidationMessage.flushAll(nodeId));
+        }
+        notificationRepository.notify(channel, payload);
+    }
+
+    @Override
+    public String channel() {
+        return channel;
+    }
+
+    @Override
+    public void handleNotification(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable cache invalidation message, flushing weather caches", e);
+            cacheService.evictAllWeatherCaches();
+            return;
+        }
+
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        if (message.flushAll()) {
+            cacheService.evictAllWeatherCaches();
+        } else {
+            cacheService.evictWeatherCaches(new WeatherMeasurementsSavedEvent(message.daysByCity()));
+        }
+    }
+
+    @Override
+    public void resynchronize() {
+        cacheService.evictAllWeatherCaches();
+    }
+
+    private String serialize(CacheInvalidationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cache invalidation message could not be serialized", e);
+        }
+    }
+}
@@ -2,9 +2,15 @@ package org.project.capstone.weather.api.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.event.UserChangedEvent;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.project.capstone.weather.api.util.converter.TemperatureConverter;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Objects;
 
@@ -16,10 +22,39 @@ public class CacheService {
     private final CacheManager cacheManager;
 
 
-    @Scheduled(cron = "1 0 * * * *")
-    public void evictAllCachesAtIntervals() {
-        String cacheName = Objects.requireNonNull(cacheManager.getCache("cities")).getName();
-        Objects.requireNonNull(cacheManager.getCache("cities")).clear();
-        log.info("Cache: {} - cleared", cacheName);
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictWeatherCaches(WeatherMeasurementsSavedEvent event) {
+        Cache latestWeatherCache = getCache(CacheKeys.LATEST_WEATHER_CACHE);
+        Cache latestWeatherPayloadCache = getCache(CacheKeys.LATEST_WEATHER_PAYLOAD_CACHE);
+        Cache sevenDaysAverageCache = getCache(CacheKeys.SEVEN_DAYS_AVERAGE_CACHE);
+        Cache cityDayHistoryCache = getCache(CacheKeys.CITY_DAY_HISTORY_CACHE);
+
+        event.daysByCity().forEach((city, days) -> {
+            latestWeatherCache.evict(CacheKeys.city(city));
+            TemperatureConverter.UNITS.forEach(units -> latestWeatherPayloadCache.evict(CacheKeys.cityUnits(city, units)));
+            sevenDaysAverageCache.evict(CacheKeys.city(city));
+            days.forEach(day -> cityDayHistoryCache.evict(CacheKeys.cityDay(city, day)));
+        });
+        log.debug("Weather caches evicted for cities: {}", event.daysByCity().keySet());
+    }
+
+    public void evictAllWeatherCaches() {
+        getCache(CacheKeys.LATEST_WEATHER_CACHE).clear();
+        getCache(CacheKeys.LATEST_WEATHER_PAYLOAD_CACHE).clear();
+        getCache(CacheKeys.SEVEN_DAYS_AVERAGE_CACHE).clear();
+        getCache(CacheKeys.CITY_DAY_HISTORY_CACHE).clear();
+        log.info("All weather caches cleared");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictUserCaches(UserChangedEvent event) {
+        Cache userDetailsCache = getCache(CacheKeys.USER_DETAILS_CACHE);
+
+        event.usernames().forEach(userDetailsCache::evict);
+        log.debug("User caches evicted for user: {}", event.userId());
+    }
+
+    private Cache getCache(String cacheName) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheName));
     }
 }
@@ -0,0 +1,114 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.LocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class CacheWarmupService implements ApplicationRunner {
+
+    private final WeatherService weatherService;
+
+    private final CityAccessStatsService cityAccessStatsService;
+
+    private final LocationRepository locationRepository;
+
+    private final KnownCityIndex knownCityIndex;
+
+    private final boolean enabled;
+
+    private final int topCities;
+
+    private final int parallelism;
+
+    private final Duration timeout;
+
+
+    public CacheWarmupService(WeatherService weatherService,
+                              CityAccessStatsService cityAccessStatsService,
+                              LocationRepository locationRepository,
+                              KnownCityIndex knownCityIndex,
+                              @Value("${application.cache.warmup.enabled:false}") boolean enabled,
+                              @Value("${application.cache.warmup.top-cities:0}") int topCities,
+                              @Value("${application.cache.warmup.parallelism:4}") int parallelism,
+                              @Value("${application.cache.warmup.timeout:PT2M}") Duration timeout) {
+        this.weatherService = weatherService;
+        this.cityAccessStatsService = cityAccessStatsService;
+        this.locationRepository = locationRepository;
+        this.knownCityIndex = knownCityIndex;
+        this.enabled = enabled;
+        this.topCities = topCities;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    void warmUp() {
+        long startedAt = System.nanoTime();
+        knownCityIndex.refresh();
+        List<String> cities = findCitiesToWarmUp();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                runnable -> new Thread(runnable, "cache-warmup-" + threadNumber.incrementAndGet()));
+        try {
+            CompletableFuture.allOf(cities.stream()
+                            .map(city -> CompletableFuture.runAsync(() -> warmUpCity(city), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Cache warm-up of {} cities finished in {} ms",
+                    cities.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up of {} cities did not finish within {}, continuing startup", cities.size(), timeout);
+        } catch (ExecutionException e) {
+            log.warn("Cache warm-up failed, continuing startup", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> findCitiesToWarmUp() {
+        if (topCities > 0) {
+            try {
+                List<String> cities = cityAccessStatsService.getTopCities(topCities);
+                if (!cities.isEmpty()) {
+                    return cities;
+                }
+            } catch (DataAccessException e) {
+                log.warn("City access statistics are unavailable, warming up all locations", e);
+            }
+        }
+        return locationRepository.findAllCities();
+    }
+
+    private void warmUpCity(String city) {
+        try {
+            weatherService.warmUpCity(city);
+        } catch (RuntimeException e) {
+            log.debug("Cache warm-up skipped city {}", city, e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.CityAccessStatsRepository;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CityAccessStatsService {
+
+    private final Map<String, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    private final CityAccessStatsRepository cityAccessStatsRepository;
+
+    private final KnownCityIndex knownCityIndex;
+
+
+    public void recordAccess(String city) {
+        if (knownCityIndex.isKnown(city)) {
+            pendingCounts.computeIfAbsent(CacheKeys.city(city), key -> new LongAdder()).increment();
+        }
+    }
+
+    public List<String> getTopCities(int limit) {
+        return cityAccessStatsRepository.findTopCities(limit);
+    }
+
+    @Scheduled(fixedDelayString = "${application.cache.warmup.stats-flush-interval:PT1M}")
+    public void flushAccessCounts() {
+        Map<String, Long> countsByCity = new HashMap<>();
+        pendingCounts.forEach((city, counter) -> {
+            long count = counter.sumThenReset();
+            if (count > 0) {
+                countsByCity.put(city, count);
+            }
+        });
+        if (countsByCity.isEmpty()) {
+            return;
+        }
+
+        try {
+            cityAccessStatsRepository.addAccessCounts(countsByCity);
+        } catch (DataAccessException e) {
+            log.warn("City access statistics for {} cities could not be saved", countsByCity.size(), e);
+            countsByCity.forEach((city, count) -> pendingCounts.get(city).add(count));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.LocationRepository;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnownCityIndex implements NotificationHandler {
+
+    public static final String LOCATIONS_CHANNEL = "locations_changed";
+
+    private final LocationRepository locationRepository;
+
+    private volatile Set<String> cities;
+
+
+    public boolean mightExist(String city) {
+        if (city == null || city.isBlank()) {
+            return false;
+        }
+        Set<String> knownCities = cities;
+        return knownCities == null || knownCities.contains(CacheKeys.city(city));
+    }
+
+    public boolean isKnown(String city) {
+        if (city == null || city.isBlank()) {
+            return false;
+        }
+        Set<String> knownCities = cities;
+        return knownCities != null && knownCities.contains(CacheKeys.city(city));
+    }
+
+    @Scheduled(fixedDelayString = "${application.cache.known-cities.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            cities = locationRepository.findAllCities().stream()
+                    .map(CacheKeys::city)
+                    .collect(Collectors.toUnmodifiableSet());
+            log.debug("Known city index refreshed with {} cities", cities.size());
+        } catch (DataAccessException e) {
+            log.warn("Known city index refresh failed, keeping the previous index", e);
+        }
+    }
+
+    @Override
+    public String channel() {
+        return LOCATIONS_CHANNEL;
+    }
+
+    @Override
+    public void handleNotification(String payload) {
+        refresh();
+    }
+
+    @Override
+    public void resynchronize() {
+        refresh();
+    }
+}
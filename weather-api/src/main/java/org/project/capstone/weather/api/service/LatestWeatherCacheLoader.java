@@ -0,0 +1,31 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.config.NamedCacheLoader;
+import org.project.capstone.weather.api.dto.WeatherResponse;
+import org.project.capstone.weather.api.mapper.WeatherMapper;
+import org.project.capstone.weather.api.repository.LatestWeatherRepository;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LatestWeatherCacheLoader implements NamedCacheLoader {
+
+    private final LatestWeatherRepository latestWeatherRepository;
+
+    private final WeatherMapper weatherMapper;
+
+
+    @Override
+    public String cacheName() {
+        return CacheKeys.LATEST_WEATHER_CACHE;
+    }
+
+    @Override
+    public WeatherResponse load(Object key) {
+        return latestWeatherRepository.findByCity((String) key)
+                .map(weatherMapper::latestWeatherToWeatherResponse)
+                .orElse(null);
+    }
+}
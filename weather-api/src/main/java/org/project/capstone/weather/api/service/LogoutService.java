@@ -1,9 +1,11 @@
 package org.project.capstone.weather.api.service;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.security.JwtService;
 import org.project.capstone.weather.api.security.TokenBlackListService;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
@@ -18,6 +20,8 @@ public class LogoutService implements LogoutHandler {
 
     private final TokenBlackListService blackListService;
 
+    private final JwtService jwtService;
+
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -25,7 +29,11 @@ public class LogoutService implements LogoutHandler {
 
         if (authHeader != null && authHeader.startsWith("Bearer")) {
             String token = authHeader.substring(7);
-            blackListService.addToken(token);
+            try {
+                blackListService.addToken(token, jwtService.parseClaims(token).getExpiration().toInstant());
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Logout token is already invalid, nothing to black list: {}", e.getMessage());
+            }
         }
         SecurityContextHolder.clearContext();
     }
@@ -0,0 +1,203 @@
+package org.project.capstone.weather.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.dto.IngestionReport;
+import org.project.capstone.weather.api.dto.MeasurementRequest;
+import org.project.capstone.weather.api.dto.SensorLocation;
+import org.project.capstone.weather.api.dto.SensorMeasurementRequest;
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+import org.project.capstone.weather.api.entity.SensorEntity;
+import org.project.capstone.weather.api.entity.WeatherEntity;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.excpetion.IngestionQueueFullException;
+import org.project.capstone.weather.api.mapper.MeasurementMapper;
+import org.project.capstone.weather.api.repository.MeasurementRow;
+import org.project.capstone.weather.api.repository.SensorRepository;
+import org.project.capstone.weather.api.repository.WeatherCopyRepository;
+import org.project.capstone.weather.api.repository.WeatherRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MeasurementService {
+
+    private static final int COPY_CHUNK_SIZE = 5_000;
+
+    private static final int MAX_REPORTED_REJECTS = 100;
+
+    private final SensorRepository sensorRepository;
+
+    private final WeatherRepository weatherRepository;
+
+    private final MeasurementMapper measurementMapper;
+
+    private final WeatherCopyRepository weatherCopyRepository;
+
+    private final SensorLocationLookup sensorLocationLookup;
+
+    private final MeasurementWriteBuffer writeBuffer;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+
+    @Transactional
+    public boolean addMeasurements(Integer sensorId, List<MeasurementRequest> requests) {
+        return sensorRepository.findById(sensorId)
+                .map(sensor -> {
+                    List<WeatherEntity> weather = requests.stream()
+                            .map(request -> toWeatherEntity(sensor, request))
+                            .toList();
+                    weatherRepository.saveAll(weather);
+
+                    Set<LocalDate> days = weather.stream()
+                            .map(entity -> entity.getMeasurement().getCreatedAt().toLocalDate())
+                            .collect(Collectors.toSet());
+                    eventPublisher.publishEvent(new WeatherMeasurementsSavedEvent(Map.of(sensor.getLocation().getCity(), days)));
+                    return true;
+                }).orElse(false);
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return writeBuffer.isEnabled();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean queueMeasurements(Integer sensorId, List<MeasurementRequest> requests) {
+        return sensorLocationLookup.findBySensorId(sensorId)
+                .map(sensorLocation -> {
+                    List<MeasurementRow> rows = requests.stream()
+                            .map(request -> new MeasurementRow(sensorId, sensorLocation.locationId(), sensorLocation.city(),
+                                    measurementMapper.measurementRequestToMeasurement(request)))
+                            .toList();
+                    if (!writeBuffer.offer(rows)) {
+                        throw new IngestionQueueFullException();
+                    }
+                    return true;
+                }).orElse(false);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IngestionReport importMeasurements(InputStream body) throws IOException {
+        ObjectReader lineReader = objectMapper.readerFor(SensorMeasurementRequest.class);
+        List<MeasurementRow> chunk = new ArrayList<>(COPY_CHUNK_SIZE);
+        List<IngestionReport.LineReject> rejects = new ArrayList<>();
+        Map<String, Set<LocalDate>> savedDaysByCity = new HashMap<>();
+        long accepted = 0;
+        long rejected = 0;
+        long lineNumber = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            Optional<String> rejectReason;
+            try {
+                SensorMeasurementRequest request = lineReader.readValue(line);
+                rejectReason = validate(request);
+                if (rejectReason.isEmpty()) {
+                    rejectReason = addRow(chunk, savedDaysByCity, request);
+                }
+            } catch (JsonProcessingException e) {
+                rejectReason = Optional.of("Malformed JSON: " + e.getOriginalMessage());
+            }
+
+            if (rejectReason.isPresent()) {
+                rejected++;
+                if (rejects.size() < MAX_REPORTED_REJECTS) {
+                    rejects.add(new IngestionReport.LineReject(lineNumber, rejectReason.get()));
+                }
+            }
+            if (chunk.size() == COPY_CHUNK_SIZE) {
+                accepted += commitChunk(chunk, savedDaysByCity);
+            }
+        }
+        accepted += commitChunk(chunk, savedDaysByCity);
+
+        return new IngestionReport(accepted, rejected, rejects);
+    }
+
+    private long commitChunk(List<MeasurementRow> chunk, Map<String, Set<LocalDate>> savedDaysByCity) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Long copied = transactionTemplate.execute(status -> {
+            long rows = weatherCopyRepository.copy(chunk);
+            eventPublisher.publishEvent(new WeatherMeasurementsSavedEvent(Map.copyOf(savedDaysByCity)));
+            return rows;
+        });
+        chunk.clear();
+        savedDaysByCity.clear();
+        return copied == null ? 0 : copied;
+    }
+
+    private Optional<String> validate(SensorMeasurementRequest request) {
+        if (request == null) {
+            return Optional.of("Empty record");
+        }
+        Set<ConstraintViolation<SensorMeasurementRequest>> violations = validator.validate(request);
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .reduce((left, right) -> left + "; " + right);
+    }
+
+    private Optional<String> addRow(List<MeasurementRow> chunk,
+                                    Map<String, Set<LocalDate>> savedDaysByCity,
+                                    SensorMeasurementRequest request) {
+        Optional<SensorLocation> sensorLocation = sensorLocationLookup.findBySensorId(request.sensorId());
+        if (sensorLocation.isEmpty()) {
+            return Optional.of("Unknown sensor: " + request.sensorId());
+        }
+        MeasurementEmbedded measurement = measurementMapper.measurementRequestToMeasurement(request.measurement());
+        String city = sensorLocation.get().city();
+        chunk.add(new MeasurementRow(request.sensorId(), sensorLocation.get().locationId(), city, measurement));
+        savedDaysByCity.computeIfAbsent(city, key -> new HashSet<>()).add(measurement.getCreatedAt().toLocalDate());
+
+        return Optional.empty();
+    }
+
+    private WeatherEntity toWeatherEntity(SensorEntity sensor, MeasurementRequest request) {
+        MeasurementEmbedded measurement = measurementMapper.measurementRequestToMeasurement(request);
+        measurement.setSensor(sensor);
+
+        return WeatherEntity.builder()
+                .measurement(measurement)
+                .location(sensor.getLocation())
+                .build();
+    }
+}
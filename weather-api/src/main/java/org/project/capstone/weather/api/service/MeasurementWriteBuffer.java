@@ -0,0 +1,271 @@
+package org.project.capstone.weather.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.repository.MeasurementDeadLetterRepository;
+import org.project.capstone.weather.api.repository.MeasurementRow;
+import org.project.capstone.weather.api.repository.WeatherCopyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class MeasurementWriteBuffer implements SmartLifecycle {
+
+    private final Queue<MeasurementRow> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+    private final WeatherCopyRepository weatherCopyRepository;
+
+    private final MeasurementDeadLetterRepository deadLetterRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Timer commitTimer;
+
+    private final Counter rejectedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter deadLetteredCounter;
+
+    private final boolean enabled;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final Duration maxDelay;
+
+    private final int maxAttempts;
+
+    private final Duration retryBackoff;
+
+    private final Duration maxRetryBackoff;
+
+    private volatile boolean running;
+
+    private volatile Thread flusher;
+
+
+    public MeasurementWriteBuffer(WeatherCopyRepository weatherCopyRepository,
+                                  MeasurementDeadLetterRepository deadLetterRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${application.ingestion.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${application.ingestion.write-behind.capacity:100000}") int capacity,
+                                  @Value("${application.ingestion.write-behind.batch-size:5000}") int batchSize,
+                                  @Value("${application.ingestion.write-behind.max-delay:1s}") Duration maxDelay,
+                                  @Value("${application.ingestion.write-behind.retry.max-attempts:5}") int maxAttempts,
+                                  @Value("${application.ingestion.write-behind.retry.backoff:PT0.2S}") Duration retryBackoff,
+                                  @Value("${application.ingestion.write-behind.retry.max-backoff:PT5S}") Duration maxRetryBackoff) {
+        this.weatherCopyRepository = weatherCopyRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+
+        Gauge.builder("weather.ingestion.queue.depth", size, AtomicInteger::get)
+                .description("Measurements waiting for group commit")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("weather.ingestion.commit")
+                .description("Latency of a group commit into weather_data")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("weather.ingestion.rejected")
+                .description("Measurements rejected because the queue was full")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("weather.ingestion.dropped")
+                .description("Measurements lost because neither their group commit nor dead-lettering succeeded")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("weather.ingestion.dead-lettered")
+                .description("Measurements moved to measurement_dead_letters because they could not be stored")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean offer(List<MeasurementRow> rows) {
+        runningLock.readLock().lock();
+        try {
+            int current;
+            do {
+                current = size.get();
+                if (!running || current + rows.size() > capacity) {
+                    rejectedCounter.increment(rows.size());
+                    return false;
+                }
+            } while (!size.compareAndSet(current, current + rows.size()));
+
+            queue.addAll(rows);
+            if (current + rows.size() >= batchSize) {
+                LockSupport.unpark(flusher);
+            }
+            return true;
+        } finally {
+            runningLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "measurement-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Measurement write-behind buffer started: capacity {}, batch size {}, max delay {}", capacity, batchSize, maxDelay);
+    }
+
+    @Override
+    public void stop() {
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        Thread thread = flusher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushAvailable();
+        log.info("Measurement write-behind buffer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runFlusher() {
+        while (running) {
+            LockSupport.parkNanos(this, maxDelay.toNanos());
+            flushAvailable();
+        }
+    }
+
+    private void flushAvailable() {
+        List<MeasurementRow> batch = new ArrayList<>(batchSize);
+        MeasurementRow row;
+        while ((row = queue.poll()) != null) {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                commit(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            commit(batch);
+        }
+    }
+
+    private void commit(List<MeasurementRow> batch) {
+        try {
+            commitWithRetry(batch);
+        } finally {
+            size.addAndGet(-batch.size());
+        }
+    }
+
+    private void commitWithRetry(List<MeasurementRow> rows) {
+        Duration backoff = retryBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                commitTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                    weatherCopyRepository.copy(rows);
+                    eventPublisher.publishEvent(WeatherMeasurementsSavedEvent.fromRows(rows));
+                }));
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    isolateFailedRows(rows, e);
+                    return;
+                }
+                if (attempt >= maxAttempts) {
+                    log.error("Group commit of {} measurements failed after {} attempts", rows.size(), attempt, e);
+                    rows.forEach(row -> deadLetter(row, e));
+                    return;
+                }
+                log.warn("Group commit of {} measurements failed transiently, retrying in {}", rows.size(), backoff, e);
+                LockSupport.parkNanos(this, backoff.toNanos());
+                backoff = backoff.multipliedBy(2).compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void isolateFailedRows(List<MeasurementRow> rows, RuntimeException failure) {
+        if (rows.size() == 1) {
+            deadLetter(rows.get(0), failure);
+            return;
+        }
+        int middle = rows.size() / 2;
+        commitWithRetry(rows.subList(0, middle));
+        commitWithRetry(rows.subList(middle, rows.size()));
+    }
+
+    private void deadLetter(MeasurementRow row, RuntimeException failure) {
+        try {
+            deadLetterRepository.save(row, String.valueOf(NestedExceptionUtils.getMostSpecificCause(failure).getMessage()));
+            deadLetteredCounter.increment();
+            log.warn("Measurement of sensor {} at {} moved to dead letters", row.sensorId(), row.measurement().getCreatedAt(), failure);
+        } catch (RuntimeException e) {
+            droppedCounter.increment();
+            log.error("Measurement of sensor {} at {} could not be dead-lettered", row.sensorId(), row.measurement().getCreatedAt(), e);
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+               || e instanceof RecoverableDataAccessException
+               || e instanceof DataAccessResourceFailureException
+               || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,10 @@
+package org.project.capstone.weather.api.service;
+
+public interface NotificationHandler {
+
+    String channel();
+
+    void handleNotification(String payload);
+
+    void resynchronize();
+}
@@ -0,0 +1,167 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class NotificationListener implements SmartLifecycle {
+
+    private static final Duration MIN_RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final Map<String, NotificationHandler> handlersByChannel;
+
+    private final boolean enabled;
+
+    private final Duration pollTimeout;
+
+    private final Duration maxReconnectDelay;
+
+    private volatile boolean running;
+
+    private volatile Thread listener;
+
+
+    public NotificationListener(DataSourceProperties dataSourceProperties,
+                                List<NotificationHandler> handlers,
+                                @Value("${application.notifications.enabled:false}") boolean enabled,
+                                @Value("${application.notifications.poll-timeout:PT5S}") Duration pollTimeout,
+                                @Value("${application.notifications.max-reconnect-delay:PT30S}") Duration maxReconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.handlersByChannel = handlers.stream()
+                .collect(Collectors.toMap(NotificationHandler::channel, Function.identity()));
+        this.enabled = enabled;
+        this.pollTimeout = pollTimeout;
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || handlersByChannel.isEmpty()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::runListener, "notification-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Notification listener started for channels {}", handlersByChannel.keySet());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(pollTimeout.toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Notification listener stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void dispatch(String channel, String payload) {
+        NotificationHandler handler = handlersByChannel.get(channel);
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.handleNotification(payload);
+        } catch (RuntimeException e) {
+            log.warn("Notification on channel {} could not be handled, resynchronizing", channel, e);
+            handler.resynchronize();
+        }
+    }
+
+    private void runListener() {
+        boolean missedNotifications = false;
+        Duration reconnectDelay = MIN_RECONNECT_DELAY;
+
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : handlersByChannel.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                if (missedNotifications) {
+                    log.warn("Notification listener reconnected, resynchronizing channels {}", handlersByChannel.keySet());
+                    handlersByChannel.values().forEach(NotificationHandler::resynchronize);
+                    missedNotifications = false;
+                }
+                reconnectDelay = MIN_RECONNECT_DELAY;
+                listen(connection);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                missedNotifications = true;
+                log.warn("Notification listener connection lost, reconnecting in {}", reconnectDelay, e);
+                if (!sleep(reconnectDelay)) {
+                    return;
+                }
+                reconnectDelay = reconnectDelay.multipliedBy(2).compareTo(maxReconnectDelay) > 0
+                        ? maxReconnectDelay
+                        : reconnectDelay.multipliedBy(2);
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int timeoutMillis = (int) pollTimeout.toMillis();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!connection.isValid((int) pollTimeout.toSeconds())) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                dispatch(notification.getName(), notification.getParameter());
+            }
+        }
+    }
+
+    private boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.dto.SensorLocation;
+import org.project.capstone.weather.api.event.SensorLocationChangedEvent;
+import org.project.capstone.weather.api.repository.SensorRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SensorLocationLookup implements NotificationHandler {
+
+    public static final String SENSORS_CHANNEL = "sensors_changed";
+
+    private static final long MISS_RELOAD_INTERVAL_MILLIS = 30_000L;
+
+    private final SensorRepository sensorRepository;
+
+    private volatile Map<Integer, SensorLocation> sensorLocations = Map.of();
+
+    private volatile long refreshedAt;
+
+
+    public Optional<SensorLocation> findBySensorId(Integer sensorId) {
+        SensorLocation sensorLocation = sensorLocations.get(sensorId);
+        if (sensorLocation == null && System.currentTimeMillis() - refreshedAt > MISS_RELOAD_INTERVAL_MILLIS) {
+            reloadAfterMiss();
+            sensorLocation = sensorLocations.get(sensorId);
+        }
+        return Optional.ofNullable(sensorLocation);
+    }
+
+    @Scheduled(fixedDelayString = "${application.ingestion.sensor-lookup.refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("Sensor location lookup refresh failed, keeping the previous lookup", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onSensorLocationChanged(SensorLocationChangedEvent event) {
+        Map<Integer, SensorLocation> updated = new HashMap<>(sensorLocations);
+        if (event.sensorLocation() == null) {
+            updated.remove(event.sensorId());
+        } else {
+            updated.put(event.sensorId(), event.sensorLocation());
+        }
+        sensorLocations = Map.copyOf(updated);
+    }
+
+    @Override
+    public String channel() {
+        return SENSORS_CHANNEL;
+    }
+
+    @Override
+    public void handleNotification(String payload) {
+        refresh();
+    }
+
+    @Override
+    public void resynchronize() {
+        refresh();
+    }
+
+    private synchronized void reloadAfterMiss() {
+        if (System.currentTimeMillis() - refreshedAt <= MISS_RELOAD_INTERVAL_MILLIS) {
+            return;
+        }
+        reload();
+    }
+
+    private synchronized void reload() {
+        sensorLocations = sensorRepository.findAllSensorLocations().stream()
+                .collect(Collectors.toUnmodifiableMap(SensorLocation::sensorId, Function.identity()));
+        refreshedAt = System.currentTimeMillis();
+        log.debug("Sensor location lookup refreshed: {} sensors", sensorLocations.size());
+    }
+}
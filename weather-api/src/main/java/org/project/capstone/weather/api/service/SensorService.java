@@ -5,13 +5,16 @@ import lombok.RequiredArgsConstructor;
 import org.project.capstone.weather.api.dto.LocationRequest;
 import org.project.capstone.weather.api.dto.LocationResponse;
 import org.project.capstone.weather.api.dto.SensorCreationRequest;
+import org.project.capstone.weather.api.dto.SensorLocation;
 import org.project.capstone.weather.api.dto.SensorResponse;
 import org.project.capstone.weather.api.dto.filter.LocationFilter;
 import org.project.capstone.weather.api.dto.filter.QPredicate;
 import org.project.capstone.weather.api.entity.LocationEntity;
 import org.project.capstone.weather.api.entity.SensorEntity;
+import org.project.capstone.weather.api.event.SensorLocationChangedEvent;
 import org.project.capstone.weather.api.mapper.SensorMapper;
 import org.project.capstone.weather.api.repository.SensorRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ public class SensorService {
 
     private final LocationService locationService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
 
     public List<SensorResponse> getAllSensors(LocationFilter filter, Pageable pageable) {
         Predicate predicate = QPredicate.builder()
@@ -54,6 +59,7 @@ public class SensorService {
     public boolean deleteSensor(Integer id) {
         return sensorRepository.findById(id).map(sensor -> {
             sensorRepository.delete(sensor);
+            eventPublisher.publishEvent(SensorLocationChangedEvent.removed(id));
             return true;
         }).orElse(false);
     }
@@ -71,5 +77,7 @@ public class SensorService {
                 .build());
 
         sensorRepository.saveAndFlush(sensor);
+        eventPublisher.publishEvent(new SensorLocationChangedEvent(sensor.getId(),
+                new SensorLocation(sensor.getId(), location.id(), location.city())));
     }
 }
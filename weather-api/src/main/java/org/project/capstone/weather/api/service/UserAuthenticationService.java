@@ -57,6 +57,7 @@ public class UserAuthenticationService {
         log.info("User: {} is logging into the system. Success: {}. Access level: {}", user.getUsername(), auth.isAuthenticated(), auth.getAuthorities());
 
         claims.put("fullName", String.join(" ", user.getUserEntity().getFirstname(), user.getUserEntity().getLastname()));
+        claims.put(JwtService.USER_ID_CLAIM, user.getUserId());
 
         String jwt = jwtService.generateToken(claims, (UserEntityDetails) auth.getPrincipal());
 
@@ -7,20 +7,29 @@ import org.project.capstone.weather.api.dto.UserResponse;
 import org.project.capstone.weather.api.dto.filter.QPredicate;
 import org.project.capstone.weather.api.dto.filter.UserSearchFilter;
 import org.project.capstone.weather.api.entity.LocationEntity;
+import org.project.capstone.weather.api.entity.Role;
 import org.project.capstone.weather.api.entity.UserEntity;
 import org.project.capstone.weather.api.entity.UserLocationsEntity;
+import org.project.capstone.weather.api.event.UserChangedEvent;
 import org.project.capstone.weather.api.excpetion.LocationNotFoundException;
+import org.project.capstone.weather.api.mapper.PasswordEncodingMapper;
 import org.project.capstone.weather.api.mapper.UserCreateEditMapper;
 import org.project.capstone.weather.api.repository.LocationRepository;
 import org.project.capstone.weather.api.repository.UserLocationRepository;
 import org.project.capstone.weather.api.repository.UserRepository;
+import org.project.capstone.weather.api.security.TokenRevocationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.project.capstone.weather.api.entity.QUserEntity.userEntity;
 
@@ -37,6 +46,10 @@ public class UserService {
 
     private final UserCreateEditMapper userMapper;
 
+    private final TokenRevocationService revocationService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
 
     public List<UserResponse> getAllUsers(UserSearchFilter filter, Pageable pageable) {
         Predicate predicate = QPredicate.builder()
@@ -61,14 +74,6 @@ public class UserService {
                 .map(userMapper::userToUserResponse);
     }
 
-    public String getUsernameById(Integer id) {
-        Optional<UserEntity> userEntityOpt = userRepository.findById(id);
-
-        return userEntityOpt
-                .map(UserEntity::getEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-    }
-
     @Transactional
     public void addLocationToUser(Integer userId, String cityName) {
         UserEntity user = userRepository.findById(userId).orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -94,8 +99,20 @@ public class UserService {
     @Transactional
     public Optional<UserResponse> updateUser(Integer id, UserCreateEditRequest createEditRequest) {
         return userRepository.findById(id)
-                .map(entity -> userMapper.update(createEditRequest, entity))
-                .map(userRepository::saveAndFlush)
+                .map(entity -> {
+                    Role previousRole = entity.getRole();
+                    String previousEmail = entity.getEmail();
+                    boolean passwordChanged = createEditRequest.password() != null
+                                              && !PasswordEncodingMapper.matches(createEditRequest.password(), entity.getPassword());
+                    UserEntity updated = userRepository.saveAndFlush(userMapper.update(createEditRequest, entity));
+                    if (previousRole != updated.getRole()
+                        || !Objects.equals(previousEmail, updated.getEmail())
+                        || passwordChanged) {
+                        revocationService.revokeTokens(id);
+                    }
+                    eventPublisher.publishEvent(new UserChangedEvent(id, usernames(previousEmail, updated.getEmail())));
+                    return updated;
+                })
                 .map(userMapper::userToUserResponse);
     }
 
@@ -104,7 +121,15 @@ public class UserService {
         return userRepository.findById(id)
                 .map(entity -> {
                     userRepository.delete(entity);
+                    revocationService.revokeTokens(id);
+                    eventPublisher.publishEvent(new UserChangedEvent(id, usernames(entity.getEmail())));
                     return true;
                 }).orElse(false);
     }
+
+    private static Set<String> usernames(String... emails) {
+        return Arrays.stream(emails)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,75 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.WeatherPartitionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Slf4j
+@Service
+public class WeatherPartitionService {
+
+    private final WeatherPartitionRepository weatherPartitionRepository;
+
+    private final int monthsAhead;
+
+    private final int retentionMonths;
+
+
+    public WeatherPartitionService(WeatherPartitionRepository weatherPartitionRepository,
+                                   @Value("${application.partitioning.months-ahead:3}") int monthsAhead,
+                                   @Value("${application.partitioning.retention-months:0}") int retentionMonths) {
+        this.weatherPartitionRepository = weatherPartitionRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${application.partitioning.cron:0 10 0 * * *}")
+    public void maintainPartitionsAtIntervals() {
+        maintainPartitions(YearMonth.now());
+    }
+
+    void maintainPartitions(YearMonth currentMonth) {
+        List<YearMonth> partitions = weatherPartitionRepository.findMonthlyPartitions();
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!partitions.contains(month)) {
+                createPartition(month);
+            }
+        }
+
+        if (retentionMonths > 0) {
+            YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths);
+            partitions.stream()
+                    .filter(month -> month.isBefore(oldestRetained))
+                    .forEach(this::dropPartition);
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        try {
+            weatherPartitionRepository.createMonthlyPartition(month);
+            log.info("Partition of weather_data for {} - created", month);
+        } catch (DataAccessException e) {
+            log.error("Partition of weather_data for {} - creation failed", month, e);
+        }
+    }
+
+    private void dropPartition(YearMonth month) {
+        try {
+            weatherPartitionRepository.detachAndDropMonthlyPartition(month);
+            log.info("Partition of weather_data for {} - detached and dropped", month);
+        } catch (DataAccessException e) {
+            log.error("Partition of weather_data for {} - detach failed", month, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.project.capstone.weather.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.capstone.weather.api.repository.WeatherRollupRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherRollupService {
+
+    private final WeatherRollupRepository weatherRollupRepository;
+
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${application.rollup.interval:PT1M}")
+    public void refreshRollupsAtIntervals() {
+        long processedXid = weatherRollupRepository.lockWatermark();
+        long upperBound = weatherRollupRepository.findRollupUpperBound();
+
+        if (upperBound <= processedXid) {
+            return;
+        }
+
+        int hourlyBuckets = weatherRollupRepository.refreshHourly(processedXid, upperBound);
+        int dailyBuckets = weatherRollupRepository.refreshDaily(processedXid, upperBound);
+        weatherRollupRepository.updateWatermark(upperBound);
+
+        if (hourlyBuckets > 0) {
+            log.info("Weather rollups refreshed up to transaction {}: {} hourly, {} daily buckets", upperBound, hourlyBuckets, dailyBuckets);
+        }
+    }
+}
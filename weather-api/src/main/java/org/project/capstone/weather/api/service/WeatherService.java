@@ -1,43 +1,98 @@
 package org.project.capstone.weather.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.project.capstone.weather.api.config.HttpCacheProperties;
 import org.project.capstone.weather.api.dto.AverageWeatherResponse;
+import org.project.capstone.weather.api.dto.HistoryCursor;
+import org.project.capstone.weather.api.dto.WeatherHistorySliceResponse;
 import org.project.capstone.weather.api.dto.WeatherResponse;
+import org.project.capstone.weather.api.dto.series.SeriesAggregation;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.project.capstone.weather.api.dto.series.SeriesMetric;
+import org.project.capstone.weather.api.dto.series.SeriesResponse;
+import org.project.capstone.weather.api.entity.WeatherEntity;
+import org.project.capstone.weather.api.excpetion.InvalidSeriesRangeException;
 import org.project.capstone.weather.api.excpetion.LocationNotFoundException;
 import org.project.capstone.weather.api.interceptor.UnitsContext;
 import org.project.capstone.weather.api.mapper.WeatherMapper;
+import org.project.capstone.weather.api.repository.LatestWeatherRepository;
 import org.project.capstone.weather.api.repository.WeatherRepository;
+import org.project.capstone.weather.api.repository.WeatherRollupRepository;
+import org.project.capstone.weather.api.repository.WeatherRollupRow;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.project.capstone.weather.api.util.cache.SerializedPayload;
 import org.project.capstone.weather.api.util.converter.TemperatureConverter;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class WeatherService {
 
+    private static final long MAX_SERIES_BUCKETS = 5000;
+
+    private static final int MAX_HISTORY_SLICE_SIZE = 1000;
+
+    private static final long MAX_CACHED_HISTORY_DAYS = 31;
+
     private final WeatherRepository weatherRepository;
 
+    private final LatestWeatherRepository latestWeatherRepository;
+
+    private final WeatherRollupRepository weatherRollupRepository;
+
     private final WeatherMapper weatherMapper;
 
     private final UnitsContext unitsContext;
 
+    private final EntityManager entityManager;
+
+    private final CacheManager cacheManager;
+
+    private final LatestWeatherCacheLoader latestWeatherCacheLoader;
+
+    private final KnownCityIndex knownCityIndex;
+
+    private final ObjectMapper objectMapper;
+
+    private final HttpCacheProperties httpCacheProperties;
+
 
     public Optional<WeatherResponse> getLatestWeatherByCity(String city) {
-        return weatherRepository.findLatestWeatherByCity(city)
-                .map(weather -> {
-                    WeatherResponse response = weatherMapper.weatherToWeatherResponse(weather);
-                    return TemperatureConverter.convertTemperature(response, unitsContext.getUnits());
-                });
+        return findLatestWeatherByCity(city)
+                .map(response -> TemperatureConverter.convertTemperature(response, unitsContext.getUnits()));
     }
 
+    public Optional<SerializedPayload> getLatestWeatherPayloadByCity(String city) {
+        if (!knownCityIndex.mightExist(city)) {
+            return Optional.empty();
+        }
+        return findLatestWeatherPayload(city, unitsContext.getUnits());
+    }
+
+    @SuppressWarnings("unchecked")
     public List<WeatherResponse> getWeatherHistoryByCityAndDateRange(String cityName,
                                                                      LocalDate startDate,
                                                                      LocalDate endDate) {
@@ -45,10 +100,99 @@ public class WeatherService {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
+        String units = unitsContext.getUnits();
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_CACHED_HISTORY_DAYS) {
+            return weatherRepository
+                    .findByCityAndDateRange(cityName, startDate.atStartOfDay(), endDate.plusDays(1L).atStartOfDay())
+                    .stream()
+                    .map(weather -> TemperatureConverter.convertTemperature(weatherMapper.weatherToWeatherResponse(weather), units))
+                    .toList();
+        }
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheKeys.CITY_DAY_HISTORY_CACHE));
+        LocalDate today = LocalDate.now();
+
+        Map<LocalDate, List<WeatherResponse>> historyByDay = new HashMap<>();
+        List<LocalDate> missingDays = new ArrayList<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1L)) {
+            List<WeatherResponse> cached = day.isBefore(today)
+                    ? cache.get(CacheKeys.cityDay(cityName, day), List.class)
+                    : null;
+            if (cached == null) {
+                missingDays.add(day);
+            } else {
+                historyByDay.put(day, cached);
+            }
+        }
+
+        int runStart = 0;
+        for (int i = 1; i <= missingDays.size(); i++) {
+            if (i < missingDays.size() && missingDays.get(i).equals(missingDays.get(i - 1).plusDays(1L))) {
+                continue;
+            }
+            Map<LocalDate, List<WeatherResponse>> loaded = findHistoryByDay(cityName, missingDays.get(runStart), missingDays.get(i - 1));
+            for (LocalDate day : missingDays.subList(runStart, i)) {
+                List<WeatherResponse> dayHistory = List.copyOf(loaded.getOrDefault(day, List.of()));
+                historyByDay.put(day, dayHistory);
+                if (day.isBefore(today)) {
+                    cache.put(CacheKeys.cityDay(cityName, day), dayHistory);
+                }
+            }
+            runStart = i;
+        }
+
+        List<WeatherResponse> history = new ArrayList<>();
+        for (LocalDate day = endDate; !day.isBefore(startDate); day = day.minusDays(1L)) {
+            historyByDay.get(day).forEach(response -> history.add(TemperatureConverter.convertTemperature(response, units)));
+        }
+        return history;
+    }
+
+    private Map<LocalDate, List<WeatherResponse>> findHistoryByDay(String cityName, LocalDate startDate, LocalDate endDate) {
+        return weatherRepository
+                .findByCityAndDateRange(cityName, startDate.atStartOfDay(), endDate.plusDays(1L).atStartOfDay())
+                .stream()
+                .map(weatherMapper::weatherToWeatherResponse)
+                .collect(Collectors.groupingBy(response -> response.createdAt().toLocalDate()));
+    }
+
+    public void streamWeatherHistoryByCityAndDateRange(String cityName,
+                                                       LocalDate startDate,
+                                                       LocalDate endDate,
+                                                       Consumer<WeatherResponse> consumer) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1L).atStartOfDay();
+        String units = unitsContext.getUnits();
 
-        return weatherRepository.findByCityAndDateRange(cityName, startDateTime, endDateTime)
+        try (Stream<WeatherEntity> history = weatherRepository.streamByCityAndDateRange(cityName, startDateTime, endDateTime)) {
+            history.forEach(weather -> {
+                WeatherResponse response = weatherMapper.weatherToWeatherResponse(weather);
+                entityManager.detach(weather);
+                consumer.accept(TemperatureConverter.convertTemperature(response, units));
+            });
+        }
+    }
+
+    public AverageWeatherResponse getSevenDaysAverageTemperatureByCity(String city) {
+        double averageCelsius = findSevenDaysAverageCelsius(city);
+
+        return new AverageWeatherResponse(city, TemperatureConverter.convertTemperature(averageCelsius, unitsContext.getUnits()));
+    }
+
+    public void warmUpCity(String city) {
+        if (findLatestWeatherByCity(city).isEmpty()) {
+            return;
+        }
+        if (httpCacheProperties.serializedPayloads()) {
+            TemperatureConverter.UNITS.forEach(units -> findLatestWeatherPayload(city, units));
+        }
+        findSevenDaysAverageCelsius(city);
+    }
+
+    public List<WeatherResponse> getFullWeatherHistoryByCity(String cityName, Pageable pageable) {
+        return weatherRepository.findHistoryPageByCity(cityName, pageable)
                 .stream()
                 .map(weather -> {
                     WeatherResponse response = weatherMapper.weatherToWeatherResponse(weather);
@@ -57,39 +201,124 @@ public class WeatherService {
                 .toList();
     }
 
-    @Cacheable("sevenDaysAverage")
-    public AverageWeatherResponse getSevenDaysAverageTemperatureByCity(String city) {
-        LocalDateTime endDateTime = LocalDateTime.now();
-        LocalDateTime startDateTime = endDateTime.minusDays(7L);
+    public WeatherHistorySliceResponse getWeatherHistorySliceByCity(String cityName, HistoryCursor cursor, int size) {
+        int sliceSize = Math.max(1, Math.min(size, MAX_HISTORY_SLICE_SIZE));
+        Limit limit = Limit.of(sliceSize + 1);
 
-        double average = weatherRepository.findByCityAndDateRange(city, startDateTime, endDateTime).stream()
-                .mapToDouble(w -> w.getMeasurement().getTemperature())
-                .average()
-                .orElseThrow(LocationNotFoundException::new);
+        List<WeatherEntity> slice = cursor == null
+                ? weatherRepository.findHistorySliceByCity(cityName, limit)
+                : weatherRepository.findHistorySliceByCityAfter(cityName, cursor.createdAt(), cursor.id(), limit);
 
-        if ("imperial".equalsIgnoreCase(unitsContext.getUnits())) {
-            average = TemperatureConverter.celsiusToFahrenheit(average);
-        }
+        boolean hasNext = slice.size() > sliceSize;
+        List<WeatherEntity> page = hasNext ? slice.subList(0, sliceSize) : slice;
 
-        return new AverageWeatherResponse(city, average);
-    }
+        String nextCursor = null;
+        if (hasNext) {
+            WeatherEntity last = page.get(page.size() - 1);
+            nextCursor = new HistoryCursor(last.getMeasurement().getCreatedAt(), last.getId()).encode();
+        }
 
-    public List<WeatherResponse> getFullWeatherHistoryByCity(String cityName, Pageable pageable) {
-        return weatherRepository.findAllByLocationCityIgnoreCaseOrderByMeasurementCreatedAtDesc(cityName, pageable)
-                .stream()
+        List<WeatherResponse> items = page.stream()
                 .map(weather -> {
                     WeatherResponse response = weatherMapper.weatherToWeatherResponse(weather);
                     return TemperatureConverter.convertTemperature(response, unitsContext.getUnits());
                 })
                 .toList();
+
+        return new WeatherHistorySliceResponse(items, nextCursor);
     }
 
     public List<WeatherResponse> getWeatherByCities(List<String> cities) {
-        return weatherRepository.findWeatherByCities(cities).stream()
+        return latestWeatherRepository.findAllByCities(cities).stream()
                 .map(weather -> {
-                    WeatherResponse response = weatherMapper.weatherToWeatherResponse(weather);
+                    WeatherResponse response = weatherMapper.latestWeatherToWeatherResponse(weather);
                     return TemperatureConverter.convertTemperature(response, unitsContext.getUnits());
                 })
                 .toList();
     }
+
+    public SeriesResponse getWeatherSeriesByCity(String cityName,
+                                                 LocalDateTime from,
+                                                 LocalDateTime to,
+                                                 SeriesBucket bucket,
+                                                 List<SeriesMetric> metrics,
+                                                 List<SeriesAggregation> aggregations) {
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        if (from.isAfter(end)) {
+            throw new InvalidSeriesRangeException("Start date cannot be after end date", "errors.400.series_range.inverted");
+        }
+        LocalDateTime alignedFrom = bucket.floor(from);
+        LocalDateTime alignedTo = bucket.ceil(end);
+        if (bucket.countBetween(alignedFrom, alignedTo) > MAX_SERIES_BUCKETS) {
+            throw new InvalidSeriesRangeException("Requested range exceeds " + MAX_SERIES_BUCKETS + " buckets",
+                    "errors.400.series_range.too_many_buckets", String.valueOf(MAX_SERIES_BUCKETS));
+        }
+
+        List<WeatherRollupRow> rows = weatherRollupRepository.findSeriesByCity(cityName, bucket, alignedFrom, alignedTo);
+        String units = unitsContext.getUnits();
+
+        Map<String, List<Double>> values = new LinkedHashMap<>();
+        for (SeriesMetric metric : metrics.stream().distinct().toList()) {
+            for (SeriesAggregation aggregation : aggregations.stream().distinct().toList()) {
+                values.put(metric.getValue() + "." + aggregation.getValue(), rows.stream()
+                        .map(row -> {
+                            double value = aggregation.apply(metric, row);
+                            return metric == SeriesMetric.TEMPERATURE
+                                    ? TemperatureConverter.convertTemperature(value, units)
+                                    : value;
+                        })
+                        .toList());
+            }
+        }
+
+        return SeriesResponse.builder()
+                .city(cityName)
+                .bucket(bucket)
+                .timestamps(rows.stream().map(WeatherRollupRow::bucketStart).toList())
+                .counts(rows.stream().map(WeatherRollupRow::readingsCount).toList())
+                .values(values)
+                .build();
+    }
+
+    private Optional<WeatherResponse> findLatestWeatherByCity(String city) {
+        if (!knownCityIndex.mightExist(city)) {
+            return Optional.empty();
+        }
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheKeys.LATEST_WEATHER_CACHE));
+        String key = CacheKeys.city(city);
+
+        return Optional.ofNullable(cache.get(key, () -> latestWeatherCacheLoader.load(key)));
+    }
+
+    private Optional<SerializedPayload> findLatestWeatherPayload(String city, String units) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheKeys.LATEST_WEATHER_PAYLOAD_CACHE));
+
+        return Optional.ofNullable(cache.get(CacheKeys.cityUnits(city, units), () -> findLatestWeatherByCity(city)
+                .map(response -> serialize(TemperatureConverter.convertTemperature(response, units)))
+                .orElse(null)));
+    }
+
+    private double findSevenDaysAverageCelsius(String city) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheKeys.SEVEN_DAYS_AVERAGE_CACHE));
+        String cacheKey = CacheKeys.city(city);
+
+        Double averageCelsius = cache.get(cacheKey, Double.class);
+        if (averageCelsius == null) {
+            LocalDateTime endDateTime = LocalDateTime.now();
+            LocalDateTime startDateTime = endDateTime.minusDays(7L);
+
+            averageCelsius = weatherRollupRepository.findAverageTemperatureByCity(city, startDateTime, endDateTime)
+                    .orElseThrow(LocationNotFoundException::new);
+            cache.put(cacheKey, averageCelsius);
+        }
+        return averageCelsius;
+    }
+
+    private SerializedPayload serialize(WeatherResponse response) {
+        try {
+            return SerializedPayload.of(objectMapper.writeValueAsBytes(response), httpCacheProperties.gzipPayloads(), response.createdAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Weather response could not be serialized", e);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package org.project.capstone.weather.api.util.cache;
+
+import lombok.experimental.UtilityClass;
+import org.project.capstone.weather.api.util.converter.TemperatureConverter;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+@UtilityClass
+public class CacheKeys {
+
+    public static final String LATEST_WEATHER_CACHE = "cities";
+
+    public static final String LATEST_WEATHER_PAYLOAD_CACHE = "latestWeatherPayload";
+
+    public static final String CITY_DAY_HISTORY_CACHE = "cityWithDateRange";
+
+    public static final String SEVEN_DAYS_AVERAGE_CACHE = "sevenDaysAverage";
+
+    public static final String USER_DETAILS_CACHE = "userDetails";
+
+
+    public static String city(String city) {
+        return city.toLowerCase(Locale.ROOT);
+    }
+
+    public static String cityUnits(String city, String units) {
+        return city(city) + "|" + TemperatureConverter.normalizeUnits(units);
+    }
+
+    public static String cityDay(String city, LocalDate day) {
+        return city(city) + "|" + day;
+    }
+}
@@ -0,0 +1,24 @@
+package org.project.capstone.weather.api.util.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+public record SerializedPayload(byte[] body, byte[] gzippedBody, LocalDateTime createdAt) {
+
+    public static SerializedPayload of(byte[] body, boolean gzip, LocalDateTime createdAt) {
+        return new SerializedPayload(body, gzip ? gzip(body) : null, createdAt);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
@@ -3,17 +3,33 @@ package org.project.capstone.weather.api.util.converter;
 import lombok.experimental.UtilityClass;
 import org.project.capstone.weather.api.dto.WeatherResponse;
 
+import java.util.List;
+
 @UtilityClass
 public class TemperatureConverter {
 
+    public static final String METRIC = "metric";
+
+    public static final String IMPERIAL = "imperial";
+
+    public static final List<String> UNITS = List.of(METRIC, IMPERIAL);
+
+    public static String normalizeUnits(String units) {
+        return IMPERIAL.equalsIgnoreCase(units) ? IMPERIAL : METRIC;
+    }
+
     public static WeatherResponse convertTemperature(WeatherResponse response, String units) {
-        if (units.equalsIgnoreCase("imperial")) {
+        if (IMPERIAL.equalsIgnoreCase(units)) {
             return response.withTemperature(TemperatureConverter.celsiusToFahrenheit(response.temperature()))
                     .withFeelsLikeTemperature(TemperatureConverter.celsiusToFahrenheit(response.feelsLikeTemperature()));
         }
         return response;
     }
 
+    public static double convertTemperature(double celsius, String units) {
+        return IMPERIAL.equalsIgnoreCase(units) ? celsiusToFahrenheit(celsius) : celsius;
+    }
+
     public static double celsiusToFahrenheit(double celsius) {
         return celsius * 9 / 5 + 32;
     }
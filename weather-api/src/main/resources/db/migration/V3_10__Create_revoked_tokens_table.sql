@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS revoked_tokens
+(
+    digest_high BIGINT    NOT NULL,
+    digest_low  BIGINT    NOT NULL,
+    expires_at  TIMESTAMP NOT NULL,
+    PRIMARY KEY (digest_high, digest_low)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
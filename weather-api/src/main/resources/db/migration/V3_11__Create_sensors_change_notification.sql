@@ -0,0 +1,14 @@
+CREATE OR REPLACE FUNCTION notify_sensors_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('sensors_changed', TG_OP);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER sensors_notify_changed
+    AFTER INSERT OR UPDATE OF location_id OR DELETE OR TRUNCATE
+    ON sensors
+    FOR EACH STATEMENT
+EXECUTE FUNCTION notify_sensors_changed();
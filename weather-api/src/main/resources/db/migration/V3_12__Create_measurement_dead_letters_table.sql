@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS measurement_dead_letters
+(
+    id             BIGSERIAL PRIMARY KEY,
+    sensor_id      INT,
+    location_id    INT,
+    temperature    DOUBLE PRECISION,
+    wind_speed     DOUBLE PRECISION,
+    wind_direction VARCHAR(16),
+    humidity       DOUBLE PRECISION,
+    description    VARCHAR(32),
+    created_at     TIMESTAMP,
+    error          TEXT      NOT NULL,
+    failed_at      TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,13 @@
+ALTER TABLE weather_data ADD COLUMN IF NOT EXISTS ingest_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::TEXT::BIGINT;
+
+CREATE INDEX IF NOT EXISTS weather_data_ingest_xid_idx ON weather_data USING BRIN (ingest_xid);
+
+CREATE INDEX IF NOT EXISTS weather_data_location_id_ingest_xid_idx ON weather_data (location_id, ingest_xid);
+
+DROP INDEX IF EXISTS weather_data_ingested_at_idx;
+
+ALTER TABLE weather_data DROP COLUMN IF EXISTS ingested_at;
+
+ALTER TABLE rollup_watermark ADD COLUMN IF NOT EXISTS processed_xid BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE rollup_watermark DROP COLUMN IF EXISTS processed_until;
@@ -0,0 +1 @@
+ALTER SEQUENCE weather_data_id_seq INCREMENT BY 50;
\ No newline at end of file
@@ -0,0 +1,45 @@
+ALTER TABLE weather_data RENAME TO weather_data_legacy;
+ALTER TABLE weather_data_legacy RENAME CONSTRAINT weather_data_pkey TO weather_data_legacy_pkey;
+
+CREATE TABLE weather_data
+(
+    id INT NOT NULL DEFAULT nextval('weather_data_id_seq'),
+    temperature DOUBLE PRECISION NOT NULL,
+    wind_speed DOUBLE PRECISION NOT NULL,
+    wind_direction VARCHAR(16) NOT NULL,
+    humidity DOUBLE PRECISION NOT NULL,
+    description VARCHAR(32) NOT NULL,
+    sensor_id INT,
+    location_id INT,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (sensor_id) REFERENCES sensors (id),
+    FOREIGN KEY (location_id) REFERENCES locations (id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE weather_data_default PARTITION OF weather_data DEFAULT;
+
+DO
+$$
+    DECLARE
+        partition_start DATE := date_trunc('month', coalesce((SELECT min(created_at) FROM weather_data_legacy), now()))::DATE;
+        last_partition_start DATE := (date_trunc('month', now()) + INTERVAL '3 months')::DATE;
+    BEGIN
+        WHILE partition_start <= last_partition_start
+            LOOP
+                EXECUTE format('CREATE TABLE %I PARTITION OF weather_data FOR VALUES FROM (%L) TO (%L)',
+                               'weather_data_' || to_char(partition_start, 'YYYY_MM'),
+                               partition_start,
+                               (partition_start + INTERVAL '1 month')::DATE);
+                partition_start := (partition_start + INTERVAL '1 month')::DATE;
+            END LOOP;
+    END
+$$;
+
+INSERT INTO weather_data (id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, location_id, created_at)
+SELECT id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, location_id, created_at
+FROM weather_data_legacy;
+
+ALTER SEQUENCE weather_data_id_seq OWNED BY weather_data.id;
+
+DROP TABLE weather_data_legacy;
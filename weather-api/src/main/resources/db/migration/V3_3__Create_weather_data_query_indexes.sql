@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS weather_data_location_id_created_at_idx ON weather_data (location_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS locations_lower_city_idx ON locations (lower(city));
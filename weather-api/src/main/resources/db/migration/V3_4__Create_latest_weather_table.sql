@@ -0,0 +1,48 @@
+CREATE TABLE IF NOT EXISTS latest_weather
+(
+    location_id INT PRIMARY KEY,
+    temperature DOUBLE PRECISION NOT NULL,
+    wind_speed DOUBLE PRECISION NOT NULL,
+    wind_direction VARCHAR(16) NOT NULL,
+    humidity DOUBLE PRECISION NOT NULL,
+    description VARCHAR(32) NOT NULL,
+    sensor_id INT,
+    created_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (sensor_id) REFERENCES sensors (id),
+    FOREIGN KEY (location_id) REFERENCES locations (id) ON DELETE CASCADE
+);
+
+INSERT INTO latest_weather (location_id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, created_at)
+SELECT DISTINCT ON (location_id) location_id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, created_at
+FROM weather_data
+WHERE location_id IS NOT NULL
+ORDER BY location_id, created_at DESC;
+
+CREATE OR REPLACE FUNCTION refresh_latest_weather() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO latest_weather (location_id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, created_at)
+    SELECT DISTINCT ON (location_id) location_id, temperature, wind_speed, wind_direction, humidity, description, sensor_id, created_at
+    FROM inserted_weather_data
+    WHERE location_id IS NOT NULL
+    ORDER BY location_id, created_at DESC
+    ON CONFLICT (location_id) DO UPDATE
+        SET temperature    = EXCLUDED.temperature,
+            wind_speed     = EXCLUDED.wind_speed,
+            wind_direction = EXCLUDED.wind_direction,
+            humidity       = EXCLUDED.humidity,
+            description    = EXCLUDED.description,
+            sensor_id      = EXCLUDED.sensor_id,
+            created_at     = EXCLUDED.created_at
+    WHERE latest_weather.created_at <= EXCLUDED.created_at;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER weather_data_refresh_latest_weather
+    AFTER INSERT
+    ON weather_data
+    REFERENCING NEW TABLE AS inserted_weather_data
+    FOR EACH STATEMENT
+EXECUTE FUNCTION refresh_latest_weather();
@@ -0,0 +1,49 @@
+ALTER TABLE weather_data ADD COLUMN IF NOT EXISTS ingested_at TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS weather_data_ingested_at_idx ON weather_data USING BRIN (ingested_at);
+
+CREATE TABLE IF NOT EXISTS weather_hourly
+(
+    location_id INT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    readings_count BIGINT NOT NULL,
+    temperature_sum DOUBLE PRECISION NOT NULL,
+    temperature_min DOUBLE PRECISION NOT NULL,
+    temperature_max DOUBLE PRECISION NOT NULL,
+    humidity_sum DOUBLE PRECISION NOT NULL,
+    humidity_min DOUBLE PRECISION NOT NULL,
+    humidity_max DOUBLE PRECISION NOT NULL,
+    wind_speed_sum DOUBLE PRECISION NOT NULL,
+    wind_speed_min DOUBLE PRECISION NOT NULL,
+    wind_speed_max DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (location_id, bucket_start),
+    FOREIGN KEY (location_id) REFERENCES locations (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS weather_daily
+(
+    location_id INT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    readings_count BIGINT NOT NULL,
+    temperature_sum DOUBLE PRECISION NOT NULL,
+    temperature_min DOUBLE PRECISION NOT NULL,
+    temperature_max DOUBLE PRECISION NOT NULL,
+    humidity_sum DOUBLE PRECISION NOT NULL,
+    humidity_min DOUBLE PRECISION NOT NULL,
+    humidity_max DOUBLE PRECISION NOT NULL,
+    wind_speed_sum DOUBLE PRECISION NOT NULL,
+    wind_speed_min DOUBLE PRECISION NOT NULL,
+    wind_speed_max DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (location_id, bucket_start),
+    FOREIGN KEY (location_id) REFERENCES locations (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS rollup_watermark
+(
+    name VARCHAR(32) PRIMARY KEY,
+    processed_until TIMESTAMP NOT NULL
+);
+
+INSERT INTO rollup_watermark (name, processed_until)
+VALUES ('weather_rollup', '1970-01-01 00:00:00')
+ON CONFLICT (name) DO NOTHING;
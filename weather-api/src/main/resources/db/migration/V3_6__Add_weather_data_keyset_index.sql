@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS weather_data_location_id_created_at_id_idx ON weather_data (location_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS weather_data_location_id_created_at_idx;
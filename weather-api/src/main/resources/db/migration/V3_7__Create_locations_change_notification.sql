@@ -0,0 +1,14 @@
+CREATE OR REPLACE FUNCTION notify_locations_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('locations_changed', TG_OP);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER locations_notify_changed
+    AFTER INSERT OR UPDATE OF city OR DELETE OR TRUNCATE
+    ON locations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION notify_locations_changed();
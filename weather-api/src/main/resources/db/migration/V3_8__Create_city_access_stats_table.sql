@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS city_access_stats
+(
+    city             VARCHAR(255) PRIMARY KEY,
+    request_count    BIGINT    NOT NULL DEFAULT 0,
+    last_accessed_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_city_access_stats_request_count ON city_access_stats (request_count DESC);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS user_token_revocations
+(
+    user_id        INTEGER PRIMARY KEY,
+    revoked_before TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_token_revocations_revoked_before ON user_token_revocations (revoked_before);
@@ -0,0 +1,113 @@
+package org.project.capstone.weather.api.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheConfigTest {
+
+    private final CacheConfig cacheConfig = new CacheConfig();
+
+    @Test
+    public void testCacheManager_whenCacheSpecConfigured_shouldApplyMaximumSizeExpiryAndStatistics() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "cities", new CacheProperties.CacheSpec(2L, Duration.ofMinutes(5), null, null)));
+
+        CaffeineCacheManager cacheManager = cacheConfig.cacheManager(properties, new StaticListableBeanFactory().getBeanProvider(NamedCacheLoader.class));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("cities");
+
+        assertThat(cache).isNotNull();
+        assertThat(cache.getNativeCache().policy().eviction()).hasValueSatisfying(eviction ->
+                assertThat(eviction.getMaximum()).isEqualTo(2L));
+        assertThat(cache.getNativeCache().policy().expireAfterWrite()).hasValueSatisfying(expiration ->
+                assertThat(expiration.getExpiresAfter()).isEqualTo(Duration.ofMinutes(5)));
+        assertThat(cache.getNativeCache().policy().isRecordingStats()).isTrue();
+    }
+
+    @Test
+    public void testCacheManager_whenRefreshAfterWriteConfiguredWithLoader_shouldRegisterLoadingCache() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "cities", new CacheProperties.CacheSpec(10L, Duration.ofMinutes(5), Duration.ofMinutes(1), null)));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("citiesLoader", new NamedCacheLoader() {
+            @Override
+            public String cacheName() {
+                return "cities";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return key;
+            }
+        });
+
+        CaffeineCacheManager cacheManager = cacheConfig.cacheManager(properties, beanFactory.getBeanProvider(NamedCacheLoader.class));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("cities");
+
+        assertThat(cache).isNotNull();
+        assertThat(cache.getNativeCache()).isInstanceOf(LoadingCache.class);
+        assertThat(cache.getNativeCache().policy().refreshAfterWrite()).isPresent();
+    }
+
+    @Test
+    public void testCacheManager_whenLoaderRegisteredWithoutRefresh_shouldRegisterLoadingCacheWithoutRefresh() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "cities", new CacheProperties.CacheSpec(10L, Duration.ofMinutes(5), null, null)));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("citiesLoader", new NamedCacheLoader() {
+            @Override
+            public String cacheName() {
+                return "cities";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return key;
+            }
+        });
+
+        CaffeineCacheManager cacheManager = cacheConfig.cacheManager(properties, beanFactory.getBeanProvider(NamedCacheLoader.class));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("cities");
+
+        assertThat(cache).isNotNull();
+        assertThat(cache.getNativeCache()).isInstanceOf(LoadingCache.class);
+        assertThat(cache.getNativeCache().policy().refreshAfterWrite()).isEmpty();
+        assertThat(cache.get("london", String.class)).isEqualTo("london");
+    }
+
+    @Test
+    public void testCacheManager_whenNullExpiryConfigured_shouldExpireNullValuesSooner() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "cities", new CacheProperties.CacheSpec(10L, Duration.ofHours(1), null, Duration.ofSeconds(30))));
+
+        CaffeineCacheManager cacheManager = cacheConfig.cacheManager(properties, new StaticListableBeanFactory().getBeanProvider(NamedCacheLoader.class));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("cities");
+        cache.put("london", "weather");
+        cache.put("atlantis", null);
+
+        assertThat(cache.getNativeCache().policy().expireVariably()).hasValueSatisfying(expiration -> {
+            assertThat(expiration.getExpiresAfter("london")).hasValueSatisfying(expiresAfter ->
+                    assertThat(expiresAfter).isGreaterThan(Duration.ofMinutes(59)));
+            assertThat(expiration.getExpiresAfter("atlantis")).hasValueSatisfying(expiresAfter ->
+                    assertThat(expiresAfter).isLessThanOrEqualTo(Duration.ofSeconds(30)));
+        });
+    }
+
+    @Test
+    public void testCacheManager_whenRefreshAfterWriteConfiguredWithoutLoader_shouldFailFast() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "cities", new CacheProperties.CacheSpec(10L, null, Duration.ofMinutes(1), null)));
+
+        assertThatThrownBy(() -> cacheConfig.cacheManager(properties, new StaticListableBeanFactory().getBeanProvider(NamedCacheLoader.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cities");
+    }
+}
@@ -1,16 +1,19 @@
 package org.project.capstone.weather.api.controller;
 
 import org.project.capstone.weather.api.config.WebConfiguration;
+import org.project.capstone.weather.api.interceptor.CityAccessInterceptor;
 import org.project.capstone.weather.api.interceptor.UnitsContext;
 import org.project.capstone.weather.api.interceptor.UnitsRequestParameterInterceptor;
 import org.project.capstone.weather.api.security.JwtFilter;
 import org.project.capstone.weather.api.security.JwtService;
 import org.project.capstone.weather.api.security.TokenBlackListService;
+import org.project.capstone.weather.api.security.TokenRevocationService;
+import org.project.capstone.weather.api.security.UserEntityDetailsService;
+import org.project.capstone.weather.api.service.CityAccessStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest
@@ -18,11 +21,11 @@ import org.springframework.test.web.servlet.MockMvc;
         {
                 UnitsContext.class,
                 UnitsRequestParameterInterceptor.class,
+                CityAccessInterceptor.class,
                 WebConfiguration.class,
                 JwtFilter.class,
                 JwtService.class,
-                TokenBlackListService.class,
-                UserDetailsService.class
+                UserEntityDetailsService.class
         }
 )
 public abstract class BaseControllerTest {
@@ -31,6 +34,15 @@ public abstract class BaseControllerTest {
     protected MockMvc mockMvc;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UserEntityDetailsService userEntityDetailsService;
+
+    @MockBean
+    protected CityAccessStatsService cityAccessStatsService;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private TokenBlackListService tokenBlackListService;
 
 }
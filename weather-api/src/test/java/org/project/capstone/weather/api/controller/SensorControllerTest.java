@@ -2,13 +2,16 @@ package org.project.capstone.weather.api.controller;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.project.capstone.weather.api.dto.IngestionReport;
 import org.project.capstone.weather.api.dto.LocationRequest;
 import org.project.capstone.weather.api.dto.LocationResponse;
 import org.project.capstone.weather.api.dto.SensorCreationRequest;
 import org.project.capstone.weather.api.dto.SensorResponse;
 import org.project.capstone.weather.api.dto.filter.LocationFilter;
+import org.project.capstone.weather.api.excpetion.IngestionQueueFullException;
 import org.project.capstone.weather.api.repository.LocationRepository;
 import org.project.capstone.weather.api.service.LocationService;
+import org.project.capstone.weather.api.service.MeasurementService;
 import org.project.capstone.weather.api.service.SensorService;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -17,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +44,9 @@ public class SensorControllerTest extends BaseControllerTest {
     @MockBean
     private LocationService locationService;
 
+    @MockBean
+    private MeasurementService measurementService;
+
     @Test
     public void testGetAllSensors() throws Exception {
         List<SensorResponse> sensorResponses = List.of(
@@ -138,6 +145,162 @@ public class SensorControllerTest extends BaseControllerTest {
         verify(sensorService, times(1)).addSensor(any(SensorCreationRequest.class), any(LocationRequest.class));
     }
 
+    @Test
+    public void testAddMeasurements_whenSensorExists_shouldReturnCreated() throws Exception {
+        when(measurementService.addMeasurements(eq(SENSOR_ID), anyList())).thenReturn(true);
+
+        mockMvc.perform(post("/weather-api/v1/sensors/{sensorId}/measurements", SENSOR_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "measurements": [
+                                        {
+                                            "temperature": 20.5,
+                                            "windSpeed": 3.0,
+                                            "windDirection": "NORTH",
+                                            "humidity": 55.0,
+                                            "weatherCondition": "SUNNY",
+                                            "createdAt": "2024-05-21T10:10:10"
+                                        },
+                                        {
+                                            "temperature": 21.0,
+                                            "windSpeed": 2.0,
+                                            "windDirection": "SOUTH",
+                                            "humidity": 50.0,
+                                            "weatherCondition": "CLOUDY"
+                                        }
+                                    ]
+                                }
+                                """)
+                )
+                .andExpect(status().isCreated());
+
+        verify(measurementService, times(1)).addMeasurements(eq(SENSOR_ID), argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    public void testAddMeasurements_whenSensorDoesNotExist_shouldReturnNotFound() throws Exception {
+        when(measurementService.addMeasurements(eq(SENSOR_ID), anyList())).thenReturn(false);
+
+        mockMvc.perform(post("/weather-api/v1/sensors/{sensorId}/measurements", SENSOR_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "measurements": [
+                                        {
+                                            "temperature": 20.5,
+                                            "windSpeed": 3.0,
+                                            "windDirection": "NORTH",
+                                            "humidity": 55.0,
+                                            "weatherCondition": "SUNNY"
+                                        }
+                                    ]
+                                }
+                                """)
+                )
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testAddMeasurements_whenWriteBehindEnabled_shouldReturnAccepted() throws Exception {
+        when(measurementService.isWriteBehindEnabled()).thenReturn(true);
+        when(measurementService.queueMeasurements(eq(SENSOR_ID), anyList())).thenReturn(true);
+
+        mockMvc.perform(post("/weather-api/v1/sensors/{sensorId}/measurements", SENSOR_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "measurements": [
+                                        {
+                                            "temperature": 20.5,
+                                            "windSpeed": 3.0,
+                                            "windDirection": "NORTH",
+                                            "humidity": 55.0,
+                                            "weatherCondition": "SUNNY"
+                                        }
+                                    ]
+                                }
+                                """)
+                )
+                .andExpect(status().isAccepted());
+
+        verify(measurementService, never()).addMeasurements(anyInt(), anyList());
+    }
+
+    @Test
+    public void testAddMeasurements_whenWriteBehindQueueIsFull_shouldReturnServiceUnavailable() throws Exception {
+        when(measurementService.isWriteBehindEnabled()).thenReturn(true);
+        when(measurementService.queueMeasurements(eq(SENSOR_ID), anyList())).thenThrow(new IngestionQueueFullException());
+
+        mockMvc.perform(post("/weather-api/v1/sensors/{sensorId}/measurements", SENSOR_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "measurements": [
+                                        {
+                                            "temperature": 20.5,
+                                            "windSpeed": 3.0,
+                                            "windDirection": "NORTH",
+                                            "humidity": 55.0,
+                                            "weatherCondition": "SUNNY"
+                                        }
+                                    ]
+                                }
+                                """)
+                )
+                .andExpectAll(
+                        status().isServiceUnavailable(),
+                        header().string("Retry-After", "1"),
+                        jsonPath("$.code").value(503)
+                );
+    }
+
+    @Test
+    public void testAddMeasurements_whenBatchIsEmpty_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/weather-api/v1/sensors/{sensorId}/measurements", SENSOR_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "measurements": []
+                                }
+                                """)
+                )
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(measurementService);
+    }
+
+    @Test
+    public void testImportMeasurements_whenNdjsonStreamPosted_shouldReturnIngestionReport() throws Exception {
+        IngestionReport report = new IngestionReport(1, 1, List.of(new IngestionReport.LineReject(2, "Unknown sensor: 99")));
+
+        when(measurementService.importMeasurements(any(InputStream.class))).thenReturn(report);
+
+        mockMvc.perform(post("/weather-api/v1/sensors/measurements")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"sensorId": 1, "measurement": {"temperature": 20.0, "windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY"}}
+                                {"sensorId": 99, "measurement": {"temperature": 20.0, "windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY"}}
+                                """)
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                {
+                                    "accepted": 1,
+                                    "rejected": 1,
+                                    "rejects": [
+                                        {
+                                            "line": 2,
+                                            "reason": "Unknown sensor: 99"
+                                        }
+                                    ]
+                                }
+                                """)
+                );
+
+        verify(measurementService, times(1)).importMeasurements(any(InputStream.class));
+    }
 
     @Test
     public void testDeleteSensor_whenSensorExists_shouldReturnNoContent() throws Exception {
@@ -0,0 +1,169 @@
+package org.project.capstone.weather.api.controller;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.capstone.weather.api.service.WeatherService;
+import org.project.capstone.weather.api.util.cache.SerializedPayload;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(WeatherController.class)
+@DisplayName("Weather Controller Serialized Payload Unit tests")
+@AutoConfigureMockMvc(addFilters = false)
+@TestPropertySource(properties = "application.http-cache.serialized-payloads=true")
+public class WeatherControllerPayloadTest extends BaseControllerTest {
+
+    private static final String CITY = "London";
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, Month.MAY, 21, 12, 11, 10);
+
+    private static final String BODY = "{\"temperature\":20.0,\"createdAt\":\"2024-05-21T12:11:10\"}";
+
+    @MockBean
+    private WeatherService weatherService;
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Write Cached Payload Without Mapping Response")
+    public void testGetCurrentWeatherByCity_whenPayloadCached_shouldWritePayloadBytes() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY))
+                .thenReturn(Optional.of(SerializedPayload.of(BODY.getBytes(StandardCharsets.UTF_8), true, CREATED_AT)));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        header().doesNotExist(HttpHeaders.CONTENT_ENCODING),
+                        content().string(BODY)
+                );
+
+        verify(weatherService, never()).getLatestWeatherByCity(anyString());
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Write Gzipped Payload When Client Accepts Gzip")
+    public void testGetCurrentWeatherByCity_whenClientAcceptsGzip_shouldWriteGzippedPayload() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY))
+                .thenReturn(Optional.of(SerializedPayload.of(BODY.getBytes(StandardCharsets.UTF_8), true, CREATED_AT)));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.CONTENT_ENCODING, "gzip"),
+                        header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING),
+                        result -> Assertions.assertThat(gunzip(result.getResponse().getContentAsByteArray())).isEqualTo(BODY)
+                );
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Write Plain Payload When Client Refuses Gzip With Zero Quality")
+    public void testGetCurrentWeatherByCity_whenGzipQualityIsZero_shouldWritePlainPayload() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY))
+                .thenReturn(Optional.of(SerializedPayload.of(BODY.getBytes(StandardCharsets.UTF_8), true, CREATED_AT)));
+
+        for (String acceptEncoding : new String[]{"gzip;q=0", "deflate, gzip; q=0.0", "gzip;q=0, *"}) {
+            mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                            .param("city", CITY)
+                            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpectAll(
+                            status().isOk(),
+                            header().doesNotExist(HttpHeaders.CONTENT_ENCODING),
+                            content().string(BODY)
+                    );
+        }
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Write Gzipped Payload When Wildcard Encoding Is Accepted")
+    public void testGetCurrentWeatherByCity_whenWildcardAccepted_shouldWriteGzippedPayload() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY))
+                .thenReturn(Optional.of(SerializedPayload.of(BODY.getBytes(StandardCharsets.UTF_8), true, CREATED_AT)));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, *;q=0.5"))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.CONTENT_ENCODING, "gzip"),
+                        result -> Assertions.assertThat(gunzip(result.getResponse().getContentAsByteArray())).isEqualTo(BODY)
+                );
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return Validators Of The Written Payload")
+    public void testGetCurrentWeatherByCity_whenPayloadCached_shouldReturnValidatorsOfPayload() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY))
+                .thenReturn(Optional.of(SerializedPayload.of(BODY.getBytes(StandardCharsets.UTF_8), true, CREATED_AT)));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.ETAG, eTag(CREATED_AT, "metric")),
+                        header().dateValue(HttpHeaders.LAST_MODIFIED, epochMilli(CREATED_AT)),
+                        content().string(BODY)
+                );
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return 304 When ETag Matches Payload")
+    public void testGetCurrentWeatherByCity_whenETagMatchesPayload_shouldReturnNotModified() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY))
+                .thenReturn(Optional.of(SerializedPayload.of(BODY.getBytes(StandardCharsets.UTF_8), true, CREATED_AT)));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY)
+                        .param("units", "METRIC")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag(CREATED_AT, "metric")))
+                .andExpectAll(
+                        status().isNotModified(),
+                        content().string("")
+                );
+
+        verify(weatherService, never()).getLatestWeatherByCity(anyString());
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return 404 When No Payload Exists")
+    public void testGetCurrentWeatherByCity_whenNoPayload_shouldReturnNotFound() throws Exception {
+        when(weatherService.getLatestWeatherPayloadByCity(CITY)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String eTag(LocalDateTime lastModified, String units) {
+        return "W/\"" + Long.toHexString(epochMilli(lastModified)) + "-" + units + "\"";
+    }
+
+    private static long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
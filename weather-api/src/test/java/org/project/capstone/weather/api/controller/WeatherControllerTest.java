@@ -5,24 +5,37 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.project.capstone.weather.api.dto.AverageWeatherResponse;
+import org.project.capstone.weather.api.dto.HistoryCursor;
+import org.project.capstone.weather.api.dto.WeatherHistorySliceResponse;
 import org.project.capstone.weather.api.dto.LocationResponse;
 import org.project.capstone.weather.api.dto.WeatherResponse;
+import org.project.capstone.weather.api.dto.series.SeriesAggregation;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.project.capstone.weather.api.dto.series.SeriesMetric;
+import org.project.capstone.weather.api.dto.series.SeriesResponse;
 import org.project.capstone.weather.api.entity.WeatherCondition;
 import org.project.capstone.weather.api.entity.WindDirection;
+import org.project.capstone.weather.api.excpetion.InvalidSeriesRangeException;
 import org.project.capstone.weather.api.service.WeatherService;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -33,6 +46,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest(WeatherController.class)
 @DisplayName("Weather Controller Unit tests")
 @AutoConfigureMockMvc(addFilters = false)
+@TestPropertySource(properties = "application.http-cache.serialized-payloads=false")
 public class WeatherControllerTest extends BaseControllerTest {
 
     private static final String CITY = "London";
@@ -84,6 +98,87 @@ public class WeatherControllerTest extends BaseControllerTest {
         verify(weatherService, times(1)).getLatestWeatherByCity(anyString());
     }
 
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return Validators and Cache-Control When City Exists")
+    public void testGetCurrentWeatherByCity_whenCityExists_shouldReturnValidatorsAndCacheControl() throws Exception {
+        when(weatherService.getLatestWeatherByCity(CITY)).thenReturn(Optional.of(response));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.ETAG, eTag(response.createdAt(), "metric")),
+                        header().dateValue(HttpHeaders.LAST_MODIFIED, epochMilli(response.createdAt())),
+                        header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, public")
+                );
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return 304 When ETag Matches")
+    public void testGetCurrentWeatherByCity_whenETagMatches_shouldReturnNotModified() throws Exception {
+        when(weatherService.getLatestWeatherByCity(CITY)).thenReturn(Optional.of(response));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag(response.createdAt(), "metric")))
+                .andExpectAll(
+                        status().isNotModified(),
+                        content().string("")
+                );
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return 304 When ETag Was Issued For Same Units In Other Case")
+    public void testGetCurrentWeatherByCity_whenUnitsDifferOnlyInCase_shouldReturnNotModified() throws Exception {
+        when(weatherService.getLatestWeatherByCity(CITY)).thenReturn(Optional.of(response));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY)
+                        .param("units", "METRIC")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag(response.createdAt(), "metric")))
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, eTag(response.createdAt(), "metric"))
+                );
+    }
+
+    @Test
+    @DisplayName("Get Current Weather By City - Should Return 200 When ETag Was Issued For Other Units")
+    public void testGetCurrentWeatherByCity_whenETagIssuedForOtherUnits_shouldReturnOk() throws Exception {
+        when(weatherService.getLatestWeatherByCity(CITY)).thenReturn(Optional.of(response));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/now")
+                        .param("city", CITY)
+                        .param("units", "imperial")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag(response.createdAt(), "metric")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Get Seven Days Average Temperature By City - Should Ignore Validators Of The Latest Reading")
+    public void testGetSevenDaysAverageTemperatureByCity_whenNotModifiedSinceLatestReading_shouldReturnOk() throws Exception {
+        when(weatherService.getSevenDaysAverageTemperatureByCity(CITY)).thenReturn(new AverageWeatherResponse(CITY, 22.0));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/7-days-average", CITY)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, epochMilli(response.createdAt()) + 1000))
+                .andExpectAll(
+                        status().isOk(),
+                        header().doesNotExist(HttpHeaders.ETAG));
+
+        verify(weatherService, never()).getLatestWeatherByCity(anyString());
+    }
+
+    @Test
+    @DisplayName("Get Seven Days Average Temperature By City - Should Record City Access")
+    public void testGetSevenDaysAverageTemperatureByCity_shouldRecordCityAccess() throws Exception {
+        when(weatherService.getSevenDaysAverageTemperatureByCity(CITY)).thenReturn(new AverageWeatherResponse(CITY, 22.0));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/7-days-average", CITY))
+                .andExpect(status().isOk());
+
+        verify(cityAccessStatsService, times(1)).recordAccess(CITY);
+    }
+
     @Test
     @DisplayName("Get Current Weather By City - Should Return 404 When City Does Not Exist")
     public void testGetCurrentWeatherByCity_whenCityDoesNotExists_shouldReturnNotFound() throws Exception {
@@ -126,6 +221,35 @@ public class WeatherControllerTest extends BaseControllerTest {
                 .getWeatherHistoryByCityAndDateRange(anyString(), any(LocalDate.class), any(LocalDate.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Stream Weather History By City And Date Range - Should Write One JSON Object Per Line")
+    public void testStreamWeatherHistoryByCityAndDateRange_whenCityExists_shouldWriteNdjson() throws Exception {
+        LocalDate startDate = LocalDate.of(2024, Month.MAY, 21);
+        LocalDate endDate = startDate.plusDays(2);
+
+        doAnswer(invocation -> {
+            Consumer<WeatherResponse> consumer = invocation.getArgument(3);
+            consumer.accept(WeatherResponse.builder().temperature(20.0).build());
+            consumer.accept(WeatherResponse.builder().temperature(21.0).build());
+            return null;
+        }).when(weatherService).streamWeatherHistoryByCityAndDateRange(eq(CITY), eq(startDate), eq(endDate), any(Consumer.class));
+
+        String body = mockMvc.perform(get("/weather-api/v1/weather-data/{city}/history/stream", CITY)
+                        .param("startDate", String.valueOf(startDate))
+                        .param("endDate", String.valueOf(endDate)))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith("application/x-ndjson")
+                )
+                .andReturn().getResponse().getContentAsString();
+
+        Assertions.assertThat(body.lines())
+                .hasSize(2)
+                .allSatisfy(line -> Assertions.assertThat(line).startsWith("{").endsWith("}"));
+        Assertions.assertThat(body.lines().toList().get(1)).contains("\"temperature\":21.0");
+    }
+
     @Test
     @DisplayName("Get Full Weather History By City - Should Return Ok When Second Page Is Requested")
     public void testGetFullWeatherHistoryByCity_whenSecondPageIsRequested_shouldReturnOk() throws Exception {
@@ -172,4 +296,149 @@ public class WeatherControllerTest extends BaseControllerTest {
 
         verify(weatherService, times(1)).getSevenDaysAverageTemperatureByCity(anyString());
     }
+
+    @Test
+    @DisplayName("Get Weather History Slice By City - Should Decode Cursor And Return Items With Next Cursor")
+    public void testGetWeatherHistorySliceByCity_whenCursorProvided_shouldReturnSliceWithNextCursor() throws Exception {
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2024, Month.MAY, 21, 12, 11, 10), 42);
+        String nextCursor = new HistoryCursor(LocalDateTime.of(2024, Month.MAY, 21, 11, 11, 10), 41).encode();
+
+        when(weatherService.getWeatherHistorySliceByCity(CITY, cursor, 1))
+                .thenReturn(new WeatherHistorySliceResponse(List.of(response), nextCursor));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/history/scroll", CITY)
+                        .param("cursor", cursor.encode())
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.items", hasSize(1)),
+                        jsonPath("$.items[0].temperature", is(20.0)),
+                        jsonPath("$.nextCursor", is(nextCursor))
+                );
+
+        verify(weatherService, times(1)).getWeatherHistorySliceByCity(CITY, cursor, 1);
+    }
+
+    @Test
+    @DisplayName("Get Weather History Slice By City - Should Return 400 When Cursor Is Malformed")
+    public void testGetWeatherHistorySliceByCity_whenCursorIsMalformed_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/history/scroll", CITY)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("Get Weather Series By City - Should Return Compact Bucket Arrays For Requested Metrics And Aggregations")
+    public void testGetWeatherSeriesByCity_whenParametersProvided_shouldReturnSeriesResponse() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, Month.MAY, 21, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, Month.MAY, 23, 0, 0);
+        List<SeriesMetric> metrics = List.of(SeriesMetric.TEMPERATURE, SeriesMetric.WIND_SPEED);
+        List<SeriesAggregation> aggregations = List.of(SeriesAggregation.AVG, SeriesAggregation.MAX);
+        SeriesResponse seriesResponse = SeriesResponse.builder()
+                .city(CITY)
+                .bucket(SeriesBucket.DAY)
+                .timestamps(List.of(from, from.plusDays(1)))
+                .counts(List.of(24L, 20L))
+                .values(Map.of("temperature.avg", List.of(20.0, 21.5)))
+                .build();
+
+        when(weatherService.getWeatherSeriesByCity(CITY, from, to, SeriesBucket.DAY, metrics, aggregations))
+                .thenReturn(seriesResponse);
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/series", CITY)
+                        .param("from", "2024-05-21T00:00:00")
+                        .param("to", "2024-05-23T00:00:00")
+                        .param("bucket", "1d")
+                        .param("metrics", "temperature,windSpeed")
+                        .param("agg", "avg,max"))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                {
+                                    "city": "London",
+                                    "bucket": "1d",
+                                    "timestamps": ["2024-05-21T00:00:00", "2024-05-22T00:00:00"],
+                                    "counts": [24, 20],
+                                    "values": {
+                                        "temperature.avg": [20.0, 21.5]
+                                    }
+                                }
+                                """)
+                );
+
+        verify(weatherService, times(1)).getWeatherSeriesByCity(CITY, from, to, SeriesBucket.DAY, metrics, aggregations);
+    }
+
+    @Test
+    @DisplayName("Get Weather Series By City - Should Return 400 When Bucket Is Unknown")
+    public void testGetWeatherSeriesByCity_whenBucketIsUnknown_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/series", CITY)
+                        .param("from", "2024-05-21T00:00:00")
+                        .param("bucket", "5m"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("Get Weather Series By City - Should Return 400 When Metric Or Aggregation Is Unknown")
+    public void testGetWeatherSeriesByCity_whenMetricOrAggregationIsUnknown_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/series", CITY)
+                        .param("from", "2024-05-21T00:00:00")
+                        .param("metrics", "temperature,pressure"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/series", CITY)
+                        .param("from", "2024-05-21T00:00:00")
+                        .param("agg", "median"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("Get Weather Series By City - Should Return 400 When Range Is Invalid")
+    public void testGetWeatherSeriesByCity_whenRangeIsInvalid_shouldReturnBadRequest() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, Month.MAY, 21, 0, 0);
+        LocalDateTime to = from.minusDays(1);
+
+        when(weatherService.getWeatherSeriesByCity(CITY, from, to, SeriesBucket.HOUR,
+                List.of(SeriesMetric.TEMPERATURE), List.of(SeriesAggregation.AVG)))
+                .thenThrow(new InvalidSeriesRangeException("Start date cannot be after end date", "errors.400.series_range.inverted"));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/series", CITY)
+                        .param("from", "2024-05-21T00:00:00")
+                        .param("to", "2024-05-20T00:00:00")
+                        .locale(Locale.ENGLISH))
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.error", is("Series must start before it ends"))
+                );
+    }
+
+    @Test
+    @DisplayName("Get Weather Series By City - Should Return 400 With Bucket Limit When Range Is Too Wide")
+    public void testGetWeatherSeriesByCity_whenRangeExceedsBucketLimit_shouldReturnBadRequestWithLimit() throws Exception {
+        when(weatherService.getWeatherSeriesByCity(eq(CITY), any(), any(), any(), anyList(), anyList()))
+                .thenThrow(new InvalidSeriesRangeException("Requested range exceeds 5000 buckets",
+                        "errors.400.series_range.too_many_buckets", "5000"));
+
+        mockMvc.perform(get("/weather-api/v1/weather-data/{city}/series", CITY)
+                        .param("from", "2020-01-01T00:00:00")
+                        .param("to", "2024-05-20T00:00:00")
+                        .locale(Locale.ENGLISH))
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.error", is("Series must span at most 5000 buckets"))
+                );
+    }
+
+    private static String eTag(LocalDateTime lastModified, String units) {
+        return "W/\"" + Long.toHexString(epochMilli(lastModified)) + "-" + units + "\"";
+    }
+
+    private static long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
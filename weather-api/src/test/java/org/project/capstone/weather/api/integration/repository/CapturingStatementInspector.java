@@ -0,0 +1,28 @@
+package org.project.capstone.weather.api.integration.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String lastStatement() {
+        if (STATEMENTS.isEmpty()) {
+            throw new IllegalStateException("No statement was captured");
+        }
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+}
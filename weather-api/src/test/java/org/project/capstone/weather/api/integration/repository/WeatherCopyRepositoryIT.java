@@ -0,0 +1,60 @@
+package org.project.capstone.weather.api.integration.repository;
+
+import org.junit.jupiter.api.Test;
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+import org.project.capstone.weather.api.entity.WeatherCondition;
+import org.project.capstone.weather.api.entity.WeatherEntity;
+import org.project.capstone.weather.api.entity.WindDirection;
+import org.project.capstone.weather.api.integration.IntegrationTestBase;
+import org.project.capstone.weather.api.repository.MeasurementRow;
+import org.project.capstone.weather.api.repository.WeatherCopyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+public class WeatherCopyRepositoryIT extends IntegrationTestBase {
+
+    @Autowired
+    private WeatherCopyRepository weatherCopyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testCopy_whenSequenceWasRestarted_shouldAssignPositiveIdsNotReusedByNextBlock() {
+        jdbcTemplate.execute("ALTER SEQUENCE weather_data_id_seq RESTART WITH 1");
+
+        long copied = weatherCopyRepository.copy(rows(120));
+
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM weather_data", Integer.class);
+        Long nextHighValue = jdbcTemplate.queryForObject("SELECT nextval('weather_data_id_seq')", Long.class);
+
+        assertThat(copied).isEqualTo(120);
+        assertThat(ids).hasSize(120)
+                .doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).isPositive());
+        assertThat(nextHighValue - WeatherEntity.ID_ALLOCATION_SIZE + 1).isGreaterThan(Collections.max(ids));
+    }
+
+    private static List<MeasurementRow> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new MeasurementRow(1, 1, "New York", MeasurementEmbedded.builder()
+                        .temperature(20.0)
+                        .windSpeed(2.0)
+                        .windDirection(WindDirection.NORTH)
+                        .humidity(50.0)
+                        .weatherCondition(WeatherCondition.SUNNY)
+                        .createdAt(LocalDateTime.of(2024, Month.MAY, 21, 10, 0).plusMinutes(i))
+                        .build()))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package org.project.capstone.weather.api.integration.repository;
+
+import org.junit.jupiter.api.Test;
+import org.project.capstone.weather.api.integration.IntegrationTestBase;
+import org.project.capstone.weather.api.repository.WeatherPartitionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+public class WeatherPartitionRepositoryIT extends IntegrationTestBase {
+
+    private static final YearMonth FAR_FUTURE_MONTH = YearMonth.of(2100, 1);
+
+    @Autowired
+    private WeatherPartitionRepository weatherPartitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testCreateMonthlyPartition_whenDefaultPartitionHoldsRowsOfThatMonth_shouldMoveThemIntoNewPartition() {
+        jdbcTemplate.update("""
+                INSERT INTO weather_data (temperature, wind_speed, wind_direction, humidity, description, sensor_id, location_id, created_at)
+                VALUES (20.0, 2.0, 'N', 50.0, 'SUNNY', 1, 1, '2100-01-15 10:00:00')
+                """);
+
+        weatherPartitionRepository.createMonthlyPartition(FAR_FUTURE_MONTH);
+
+        assertThat(weatherPartitionRepository.findMonthlyPartitions()).contains(FAR_FUTURE_MONTH);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM weather_data_2100_01", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM weather_data_default", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                FROM pg_inherits
+                WHERE inhparent = 'weather_data'::regclass
+                  AND inhrelid = 'weather_data_default'::regclass
+                """, Long.class)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,142 @@
+package org.project.capstone.weather.api.integration.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.project.capstone.weather.api.integration.annotation.IT;
+import org.project.capstone.weather.api.repository.LatestWeatherRepository;
+import org.project.capstone.weather.api.repository.WeatherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IT
+@Sql({"classpath:sql/data.sql", "classpath:sql/weather_dataset.sql"})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                                 "org.project.capstone.weather.api.integration.repository.CapturingStatementInspector")
+public class WeatherRepositoryIT {
+
+    private static final String CITY = "City 42";
+
+    private static final String POPULATED_RELATIONS_QUERY = """
+            SELECT relname
+            FROM pg_class
+            WHERE relkind = 'r'
+              AND reltuples > 0
+              AND (relname IN ('locations', 'latest_weather') OR relname LIKE 'weather\\_data\\_%')
+            """;
+
+    @Autowired
+    private WeatherRepository weatherRepository;
+
+    @Autowired
+    private LatestWeatherRepository latestWeatherRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    public void testFindLatestWeatherByCity_shouldNotUseSequentialScan() throws Exception {
+        latestWeatherRepository.findByCity(CITY);
+
+        assertThat(findSequentialScans(CapturingStatementInspector.lastStatement(), CITY)).isEmpty();
+    }
+
+    @Test
+    public void testFindLatestWeatherByCities_shouldNotUseSequentialScan() throws Exception {
+        latestWeatherRepository.findAllByCities(List.of(CITY, "City 1024", "London"));
+
+        assertThat(findSequentialScans(CapturingStatementInspector.lastStatement(), CITY, "City 1024", "London")).isEmpty();
+    }
+
+    @Test
+    public void testFindByCityAndDateRange_shouldNotUseSequentialScan() throws Exception {
+        LocalDateTime endDate = LocalDateTime.now();
+        LocalDateTime startDate = endDate.minusDays(2);
+
+        weatherRepository.findByCityAndDateRange(CITY, startDate, endDate);
+
+        assertThat(findSequentialScans(CapturingStatementInspector.lastStatement(), CITY, startDate, endDate)).isEmpty();
+    }
+
+    @Test
+    public void testFindHistoryPageByCity_shouldNotUseSequentialScan() throws Exception {
+        weatherRepository.findHistoryPageByCity(CITY, PageRequest.of(1, 20));
+
+        assertThat(findSequentialScans(CapturingStatementInspector.lastStatement(), CITY, 20, 20)).isEmpty();
+    }
+
+    @Test
+    public void testFindHistorySliceByCityAfter_shouldNotUseSequentialScan() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+
+        weatherRepository.findHistorySliceByCityAfter(CITY, createdAt, 100000, Limit.of(21));
+
+        assertThat(findSequentialScans(CapturingStatementInspector.lastStatement(), CITY, createdAt, 100000, 21)).isEmpty();
+    }
+
+    @Test
+    public void testFindHistorySliceByCityAfter_shouldBoundIndexScanByCursor() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+
+        weatherRepository.findHistorySliceByCityAfter(CITY, createdAt, 100000, Limit.of(21));
+
+        List<String> indexConditions = new ArrayList<>();
+        collectIndexConditions(explain(CapturingStatementInspector.lastStatement(), CITY, createdAt, 100000, 21), indexConditions);
+        assertThat(indexConditions).isNotEmpty().allMatch(condition -> condition.contains("created_at"));
+    }
+
+    private List<String> findSequentialScans(String query, Object... parameters) throws Exception {
+        Set<String> populatedRelations = new HashSet<>(jdbcTemplate.queryForList(POPULATED_RELATIONS_QUERY, String.class));
+
+        List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(explain(query, parameters), populatedRelations, sequentialScans);
+        return sequentialScans;
+    }
+
+    private JsonNode explain(String query, Object... parameters) throws Exception {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + query, String.class, parameters);
+        return objectMapper.readTree(plan).get(0).get("Plan");
+    }
+
+    private static void collectIndexConditions(JsonNode node, List<String> indexConditions) {
+        String nodeType = node.path("Node Type").asText();
+        if (("Index Scan".equals(nodeType) || "Index Only Scan".equals(nodeType))
+            && node.path("Relation Name").asText().startsWith("weather_data")) {
+            indexConditions.add(node.path("Index Cond").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectIndexConditions(child, indexConditions);
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, Set<String> populatedRelations, List<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+            && populatedRelations.contains(node.path("Relation Name").asText())) {
+            sequentialScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, populatedRelations, sequentialScans);
+        }
+    }
+}
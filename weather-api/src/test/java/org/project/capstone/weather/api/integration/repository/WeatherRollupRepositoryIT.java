@@ -0,0 +1,113 @@
+package org.project.capstone.weather.api.integration.repository;
+
+import org.junit.jupiter.api.Test;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.project.capstone.weather.api.integration.IntegrationTestBase;
+import org.project.capstone.weather.api.repository.WeatherRollupRepository;
+import org.project.capstone.weather.api.repository.WeatherRollupRow;
+import org.project.capstone.weather.api.service.WeatherRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class WeatherRollupRepositoryIT extends IntegrationTestBase {
+
+    private static final String CITY = "New York";
+
+    private static final int LOCATION_ID = 1;
+
+    private static final String INSERT_WEATHER_SQL = """
+            INSERT INTO weather_data (temperature, wind_speed, wind_direction, humidity, description, sensor_id, location_id, created_at)
+            VALUES (?, 5.5, 'NW', 55.0, 'SUNNY', 1, ?, ?)
+            """;
+
+    private static final String FIND_HOURLY_BUCKET_SQL = """
+            SELECT readings_count, temperature_sum
+            FROM weather_hourly
+            WHERE location_id = ? AND bucket_start = ?
+            """;
+
+    @Autowired
+    private WeatherRollupService weatherRollupService;
+
+    @Autowired
+    private WeatherRollupRepository weatherRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testRefreshRollups_whenTransactionCommitsAfterLaterOnes_shouldRollUpItsRowsOnceCommitted() throws Exception {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+
+        try (Connection longTransaction = dataSource.getConnection()) {
+            longTransaction.setAutoCommit(false);
+            try (PreparedStatement statement = longTransaction.prepareStatement(INSERT_WEATHER_SQL)) {
+                statement.setDouble(1, 30.0);
+                statement.setInt(2, LOCATION_ID);
+                statement.setTimestamp(3, Timestamp.valueOf(hour));
+                statement.executeUpdate();
+            }
+
+            jdbcTemplate.update(INSERT_WEATHER_SQL, 10.0, LOCATION_ID, hour.plusMinutes(5));
+            weatherRollupService.refreshRollupsAtIntervals();
+
+            longTransaction.commit();
+        }
+
+        weatherRollupService.refreshRollupsAtIntervals();
+
+        Map<String, Object> bucket = jdbcTemplate.queryForMap(FIND_HOURLY_BUCKET_SQL, LOCATION_ID, hour);
+        assertThat(((Number) bucket.get("readings_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) bucket.get("temperature_sum")).doubleValue()).isEqualTo(40.0);
+    }
+
+    @Test
+    public void testFindAverageTemperatureByCity_shouldCountEachReadingOnceAcrossRollupsAndRawRows() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+        LocalDateTime start = hour.minusMinutes(30);
+        LocalDateTime end = hour.plusMinutes(30);
+
+        jdbcTemplate.update(INSERT_WEATHER_SQL, 10.0, LOCATION_ID, hour.minusMinutes(15));
+        jdbcTemplate.update(INSERT_WEATHER_SQL, 30.0, LOCATION_ID, hour.plusMinutes(10));
+
+        assertThat(weatherRollupRepository.findAverageTemperatureByCity(CITY, start, end)).hasValue(20.0);
+
+        weatherRollupService.refreshRollupsAtIntervals();
+        jdbcTemplate.update(INSERT_WEATHER_SQL, 40.0, LOCATION_ID, hour.plusMinutes(20));
+
+        assertThat(weatherRollupRepository.findAverageTemperatureByCity(CITY, start, end))
+                .hasValueSatisfying(average -> assertThat(average).isCloseTo(80.0 / 3, within(1e-9)));
+    }
+
+    @Test
+    public void testFindSeriesByCity_shouldMergeRolledUpAndNewerRowsIntoOneBucket() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+
+        jdbcTemplate.update(INSERT_WEATHER_SQL, 10.0, LOCATION_ID, hour.plusMinutes(10));
+        weatherRollupService.refreshRollupsAtIntervals();
+        jdbcTemplate.update(INSERT_WEATHER_SQL, 30.0, LOCATION_ID, hour.plusMinutes(20));
+
+        List<WeatherRollupRow> rows = weatherRollupRepository.findSeriesByCity(CITY, SeriesBucket.HOUR, hour, hour.plusHours(1));
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.bucketStart()).isEqualTo(hour);
+            assertThat(row.readingsCount()).isEqualTo(2);
+            assertThat(row.temperatureSum()).isEqualTo(40.0);
+        });
+    }
+}
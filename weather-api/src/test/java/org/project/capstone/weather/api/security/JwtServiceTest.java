@@ -0,0 +1,107 @@
+package org.project.capstone.weather.api.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+public class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final TokenBlackListService blackListService = Mockito.mock(TokenBlackListService.class);
+
+    private final TokenRevocationService revocationService = Mockito.mock(TokenRevocationService.class);
+
+    private final UserDetails userDetails = User.withUsername("user@example.com")
+            .password("password")
+            .authorities("USER")
+            .build();
+
+    @Test
+    public void testParseClaims_whenTokenParsedTwice_shouldReturnCachedClaims() {
+        JwtService jwtService = buildJwtService(60_000);
+        String token = jwtService.generateToken(Map.of(), userDetails);
+
+        Claims claims = jwtService.parseClaims(token);
+
+        Assertions.assertThat(claims.getSubject()).isEqualTo("user@example.com");
+        Assertions.assertThat(jwtService.parseClaims(token)).isSameAs(claims);
+        Assertions.assertThat(jwtService.isTokenValid(TokenDigest.of(token), claims, userDetails)).isTrue();
+    }
+
+    @Test
+    public void testParseClaims_whenSignatureIsTampered_shouldThrowSignatureException() {
+        JwtService jwtService = buildJwtService(60_000);
+        String token = jwtService.generateToken(Map.of(), userDetails);
+        jwtService.parseClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        Assertions.assertThatThrownBy(() -> jwtService.parseClaims(tampered))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    public void testParseClaims_whenTokenExpired_shouldThrowExpiredJwtException() {
+        JwtService jwtService = buildJwtService(-1_000);
+        String token = jwtService.generateToken(Map.of(), userDetails);
+
+        Assertions.assertThatThrownBy(() -> jwtService.parseClaims(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    public void testIsTokenValid_whenTokenBlackListed_shouldReturnFalse() {
+        JwtService jwtService = buildJwtService(60_000);
+        String token = jwtService.generateToken(Map.of(), userDetails);
+        Mockito.when(blackListService.isTokenBlackListed(TokenDigest.of(token))).thenReturn(true);
+
+        Assertions.assertThat(jwtService.isTokenValid(token, userDetails)).isFalse();
+    }
+
+    @Test
+    public void testToUserDetails_whenTokenCarriesUserId_shouldBuildPrincipalFromClaims() {
+        JwtService jwtService = buildJwtService(60_000);
+        String token = jwtService.generateToken(Map.of(JwtService.USER_ID_CLAIM, 7), userDetails);
+
+        Optional<JwtUserDetails> principal = jwtService.toUserDetails(jwtService.parseClaims(token));
+
+        Assertions.assertThat(principal).isPresent();
+        Assertions.assertThat(principal.get().getUserId()).isEqualTo(7);
+        Assertions.assertThat(principal.get().getUsername()).isEqualTo("user@example.com");
+        Assertions.assertThat(principal.get().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("USER");
+    }
+
+    @Test
+    public void testToUserDetails_whenTokenHasNoUserId_shouldReturnEmpty() {
+        JwtService jwtService = buildJwtService(60_000);
+        String token = jwtService.generateToken(Map.of(), userDetails);
+
+        Assertions.assertThat(jwtService.toUserDetails(jwtService.parseClaims(token))).isEmpty();
+    }
+
+    @Test
+    public void testIsTokenValid_whenUserTokensRevoked_shouldReturnFalse() {
+        JwtService jwtService = buildJwtService(60_000);
+        String token = jwtService.generateToken(Map.of(JwtService.USER_ID_CLAIM, 7), userDetails);
+        Mockito.when(revocationService.isRevoked(Mockito.eq(7), Mockito.any())).thenReturn(true);
+
+        Assertions.assertThat(jwtService.isTokenValid(token, userDetails)).isFalse();
+    }
+
+    private JwtService buildJwtService(long expiration) {
+        return new JwtService(SECRET, expiration, 100, Duration.ofMinutes(15), blackListService, revocationService);
+    }
+}
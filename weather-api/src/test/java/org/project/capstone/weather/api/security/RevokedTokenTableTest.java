@@ -0,0 +1,64 @@
+package org.project.capstone.weather.api.security;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+public class RevokedTokenTableTest {
+
+    private static final long NOW = 1_716_285_600_000L;
+
+    private final RevokedTokenTable table = new RevokedTokenTable();
+
+    @Test
+    public void testContains_whenDigestAdded_shouldReturnTrueOnlyForThatDigest() {
+        table.add(11L, 12L, NOW + 60_000);
+
+        Assertions.assertThat(table.contains(11L, 12L)).isTrue();
+        Assertions.assertThat(table.contains(11L, 13L)).isFalse();
+    }
+
+    @Test
+    public void testAdd_whenDigestAddedTwice_shouldStoreItOnce() {
+        Assertions.assertThat(table.add(11L, 12L, NOW + 60_000)).isTrue();
+        Assertions.assertThat(table.add(11L, 12L, NOW + 60_000)).isFalse();
+
+        Assertions.assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPurgeExpired_shouldDropOnlyEntriesPastTheirEviction() {
+        table.add(1L, 1L, NOW - 1_000);
+        table.add(2L, 2L, NOW + 60_000);
+
+        int purged = table.purgeExpired(NOW);
+
+        Assertions.assertThat(purged).isEqualTo(1);
+        Assertions.assertThat(table.contains(1L, 1L)).isFalse();
+        Assertions.assertThat(table.contains(2L, 2L)).isTrue();
+    }
+
+    @Test
+    public void testPurgeExpired_whenTableResizedAndHalfPurged_shouldKeepRemainingEntriesReachable() {
+        IntStream.range(1, 5001).forEach(i -> table.add(i * 31L, i, i % 2 == 0 ? NOW - 1_000 : NOW + 60_000));
+
+        table.purgeExpired(NOW);
+
+        Assertions.assertThat(table.size()).isEqualTo(2500);
+        IntStream.range(1, 5001).forEach(i ->
+                Assertions.assertThat(table.contains(i * 31L, i)).isEqualTo(i % 2 == 1));
+    }
+
+    @Test
+    public void testCopyTo_shouldPutEveryEntryIntoBloomFilter() {
+        TokenBloomFilter bloomFilter = new TokenBloomFilter(1000, 0.01);
+        table.add(11L, 12L, NOW + 60_000);
+        table.add(21L, 22L, NOW + 60_000);
+
+        table.copyTo(bloomFilter);
+
+        Assertions.assertThat(bloomFilter.mightContain(11L, 12L)).isTrue();
+        Assertions.assertThat(bloomFilter.mightContain(21L, 22L)).isTrue();
+    }
+}
@@ -0,0 +1,130 @@
+package org.project.capstone.weather.api.security;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.repository.NotificationRepository;
+import org.project.capstone.weather.api.repository.RevokedTokenRepository;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenBlackListServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private TokenBlackListService blackListService;
+
+    @BeforeEach
+    public void setUp() {
+        blackListService = new TokenBlackListService(revokedTokenRepository, notificationRepository,
+                Duration.ofHours(1), 1000, 0.01, Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void testAddToken_shouldPersistNotifyAndBlackListLocally() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        blackListService.addToken(TOKEN, expiresAt);
+
+        verify(revokedTokenRepository, times(1)).save(anyLong(), anyLong(), eq(expiresAt));
+        verify(notificationRepository, times(1)).notify(eq(TokenBlackListService.REVOKED_TOKENS_CHANNEL), any());
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isTrue();
+        verify(revokedTokenRepository, never()).isRevoked(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testIsTokenBlackListed_whenFilterLoadedAndTokenUnknown_shouldNotQueryDatabase() {
+        blackListService.refresh();
+
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isFalse();
+        verify(revokedTokenRepository, never()).isRevoked(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testHandleNotification_whenRevokedOnOtherNode_shouldBlackListToken() {
+        TokenBlackListService otherNode = new TokenBlackListService(revokedTokenRepository, notificationRepository,
+                Duration.ofHours(1), 1000, 0.01, Duration.ofMinutes(5));
+        otherNode.addToken(TOKEN, Instant.now().plusSeconds(60));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(notificationRepository).notify(eq(TokenBlackListService.REVOKED_TOKENS_CHANNEL), payload.capture());
+        blackListService.refresh();
+
+        blackListService.handleNotification(payload.getValue());
+
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isTrue();
+    }
+
+    @Test
+    public void testIsTokenBlackListed_whenRevokedOutsideRecentSet_shouldConfirmInDatabaseOnce() {
+        loadFilterWithPersistedRevocation(TOKEN);
+        when(revokedTokenRepository.isRevoked(anyLong(), anyLong(), any())).thenReturn(true);
+
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isTrue();
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isTrue();
+        verify(revokedTokenRepository, times(1)).isRevoked(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testIsTokenBlackListed_whenFilterHitsAndDatabaseUnavailable_shouldRejectToken() {
+        loadFilterWithPersistedRevocation(TOKEN);
+        when(revokedTokenRepository.isRevoked(anyLong(), anyLong(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isTrue();
+    }
+
+    @Test
+    public void testRefresh_shouldForgetPersistedLookups() {
+        loadFilterWithPersistedRevocation(TOKEN);
+        when(revokedTokenRepository.isRevoked(anyLong(), anyLong(), any())).thenReturn(false, true);
+
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isFalse();
+        blackListService.refresh();
+
+        Assertions.assertThat(blackListService.isTokenBlackListed(TokenDigest.of(TOKEN))).isTrue();
+        verify(revokedTokenRepository, times(2)).isRevoked(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testRun_whenDatabaseUnavailable_shouldFailStartup() {
+        when(revokedTokenRepository.countActive(any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        Assertions.assertThatThrownBy(() -> blackListService.run(null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadFilterWithPersistedRevocation(String token) {
+        TokenBlackListService otherNode = new TokenBlackListService(revokedTokenRepository, notificationRepository,
+                Duration.ofHours(1), 1000, 0.01, Duration.ofMinutes(5));
+        otherNode.addToken(token, Instant.now().plusSeconds(60));
+        ArgumentCaptor<Long> high = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> low = ArgumentCaptor.forClass(Long.class);
+        verify(revokedTokenRepository).save(high.capture(), low.capture(), any());
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, BiConsumer.class).accept(high.getValue(), low.getValue());
+            return null;
+        }).when(revokedTokenRepository).forEachActive(any(), any());
+        blackListService.refresh();
+    }
+}
@@ -0,0 +1,97 @@
+package org.project.capstone.weather.api.security;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.repository.NotificationRepository;
+import org.project.capstone.weather.api.repository.UserTokenRevocationRepository;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+
+    private static final Integer USER_ID = 7;
+
+    @Mock
+    private UserTokenRevocationRepository revocationRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    public void setUp() {
+        revocationService = new TokenRevocationService(revocationRepository, notificationRepository,
+                Duration.ofDays(1).toMillis());
+    }
+
+    @Test
+    public void testRevokeTokens_shouldPersistNotifyAndRejectOlderTokens() {
+        Date issuedBefore = Date.from(Instant.now().minusSeconds(60));
+
+        revocationService.revokeTokens(USER_ID);
+
+        verify(revocationRepository, times(1)).revoke(eq(USER_ID), any(Instant.class));
+        verify(notificationRepository, times(1))
+                .notify(eq(TokenRevocationService.REVOCATIONS_CHANNEL), startsWith(USER_ID + ":"));
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, issuedBefore)).isTrue();
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, Date.from(Instant.now().plusSeconds(60)))).isFalse();
+        Assertions.assertThat(revocationService.isRevoked(8, issuedBefore)).isFalse();
+    }
+
+    @Test
+    public void testIsRevoked_whenTokenIssuedInSameSecondAfterRevocation_shouldAcceptToken() {
+        revocationService.revokeTokens(USER_ID);
+        Date issuedAt = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, issuedAt)).isFalse();
+    }
+
+    @Test
+    public void testHandleNotification_shouldApplyRevocationFromOtherNode() {
+        Instant revokedAt = Instant.now();
+
+        revocationService.handleNotification(USER_ID + ":" + revokedAt.toEpochMilli());
+
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, Date.from(revokedAt.minusSeconds(1)))).isTrue();
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, Date.from(revokedAt.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    public void testRefresh_shouldLoadRecentRevocationsAndPurgeExpiredRows() {
+        Instant revokedAt = Instant.now().minusSeconds(30);
+        when(revocationRepository.findRevokedAfter(any(Instant.class))).thenReturn(Map.of(USER_ID, revokedAt));
+
+        revocationService.refresh();
+
+        verify(revocationRepository, times(1)).deleteRevokedBefore(any(Instant.class));
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, Date.from(revokedAt.minusSeconds(1)))).isTrue();
+    }
+
+    @Test
+    public void testRefresh_whenDatabaseUnavailable_shouldKeepPreviousRevocations() {
+        Instant revokedAt = Instant.now();
+        revocationService.handleNotification(USER_ID + ":" + revokedAt.toEpochMilli());
+        when(revocationRepository.deleteRevokedBefore(any(Instant.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        revocationService.refresh();
+
+        Assertions.assertThat(revocationService.isRevoked(USER_ID, Date.from(revokedAt.minusSeconds(1)))).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+package org.project.capstone.weather.api.security;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.entity.Role;
+import org.project.capstone.weather.api.entity.UserEntity;
+import org.project.capstone.weather.api.repository.UserRepository;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserEntityDetailsServiceTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserEntityDetailsService userEntityDetailsService;
+
+    @Test
+    public void testLoadUserByUsername_shouldKeepPasswordForAuthentication() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(buildUser()));
+
+        UserEntityDetails userDetails = userEntityDetailsService.loadUserByUsername(EMAIL);
+
+        Assertions.assertThat(userDetails.getPassword()).isEqualTo("{bcrypt}hash");
+    }
+
+    @Test
+    public void testLoadPrincipalByUsername_shouldDropPassword() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(buildUser()));
+
+        UserEntityDetails userDetails = userEntityDetailsService.loadPrincipalByUsername(EMAIL);
+
+        Assertions.assertThat(userDetails.getPassword()).isNull();
+        Assertions.assertThat(userDetails.getUserId()).isEqualTo(1);
+        Assertions.assertThat(userDetails.getUsername()).isEqualTo(EMAIL);
+        Assertions.assertThat(userDetails.getUserEntity().getRole()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    public void testLoadPrincipalByUsername_whenUserDoesNotExist_shouldThrowUsernameNotFoundException() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> userEntityDetailsService.loadPrincipalByUsername(EMAIL))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    private static UserEntity buildUser() {
+        return UserEntity.builder()
+                .id(1)
+                .email(EMAIL)
+                .password("{bcrypt}hash")
+                .firstname("John")
+                .lastname("Doe")
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package org.project.capstone.weather.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.event.CacheInvalidationMessage;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.repository.NotificationRepository;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheInvalidationChannelTest {
+
+    private static final String CHANNEL = "weather_cache_invalidation";
+
+    private static final LocalDate DAY = LocalDate.of(2024, Month.MAY, 21);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private CacheService cacheService;
+
+    private CacheInvalidationChannel cacheInvalidationChannel;
+
+    @BeforeEach
+    public void setUp() {
+        cacheInvalidationChannel = new CacheInvalidationChannel(notificationRepository, cacheService, objectMapper, true, CHANNEL);
+    }
+
+    @Test
+    public void testBroadcast_whenMeasurementsSaved_shouldNotifyCitiesAndDays() throws Exception {
+        cacheInvalidationChannel.broadcast(new WeatherMeasurementsSavedEvent(Map.of("London", Set.of(DAY))));
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(notificationRepository, times(1)).notify(eq(CHANNEL), captor.capture());
+
+        CacheInvalidationMessage message = objectMapper.readValue(captor.getValue(), CacheInvalidationMessage.class);
+        Assertions.assertThat(message.flushAll()).isFalse();
+        Assertions.assertThat(message.daysByCity()).isEqualTo(Map.of("London", Set.of(DAY)));
+    }
+
+    @Test
+    public void testBroadcast_whenPayloadExceedsNotifyLimit_shouldNotifyFullFlush() throws Exception {
+        Map<String, Set<LocalDate>> daysByCity = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            daysByCity.put("City-" + i, Set.of(DAY));
+        }
+
+        cacheInvalidationChannel.broadcast(new WeatherMeasurementsSavedEvent(daysByCity));
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(notificationRepository, times(1)).notify(eq(CHANNEL), captor.capture());
+
+        CacheInvalidationMessage message = objectMapper.readValue(captor.getValue(), CacheInvalidationMessage.class);
+        Assertions.assertThat(message.flushAll()).isTrue();
+        Assertions.assertThat(message.daysByCity()).isEmpty();
+    }
+
+    @Test
+    public void testHandleNotification_whenSentByThisNode_shouldIgnoreIt() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        cacheInvalidationChannel.broadcast(new WeatherMeasurementsSavedEvent(Map.of("London", Set.of(DAY))));
+        verify(notificationRepository).notify(eq(CHANNEL), captor.capture());
+
+        cacheInvalidationChannel.handleNotification(captor.getValue());
+
+        verifyNoInteractions(cacheService);
+    }
+
+    @Test
+    public void testHandleNotification_whenSentByOtherNode_shouldEvictCityEntries() throws Exception {
+        String payload = objectMapper.writeValueAsString(
+                new CacheInvalidationMessage("other-node", false, Map.of("London", Set.of(DAY))));
+
+        cacheInvalidationChannel.handleNotification(payload);
+
+        verify(cacheService, times(1)).evictWeatherCaches(new WeatherMeasurementsSavedEvent(Map.of("London", Set.of(DAY))));
+        verify(cacheService, never()).evictAllWeatherCaches();
+    }
+
+    @Test
+    public void testHandleNotification_whenFullFlushRequested_shouldEvictAllWeatherCaches() throws Exception {
+        String payload = objectMapper.writeValueAsString(CacheInvalidationMessage.flushAll("other-node"));
+
+        cacheInvalidationChannel.handleNotification(payload);
+
+        verify(cacheService, times(1)).evictAllWeatherCaches();
+    }
+
+    @Test
+    public void testHandleNotification_whenPayloadIsMalformed_shouldEvictAllWeatherCaches() {
+        cacheInvalidationChannel.handleNotification("{not json");
+
+        verify(cacheService, times(1)).evictAllWeatherCaches();
+    }
+}
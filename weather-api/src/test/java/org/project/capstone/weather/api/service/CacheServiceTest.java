@@ -0,0 +1,69 @@
+package org.project.capstone.weather.api.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.event.UserChangedEvent;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.util.cache.CacheKeys;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, Month.MAY, 21);
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @InjectMocks
+    private CacheService cacheService;
+
+    @Test
+    public void testEvictWeatherCaches_whenMeasurementsSaved_shouldEvictOnlyAffectedCityEntries() {
+        Cache latestWeatherCache = cacheManager.getCache(CacheKeys.LATEST_WEATHER_CACHE);
+        Cache sevenDaysAverageCache = cacheManager.getCache(CacheKeys.SEVEN_DAYS_AVERAGE_CACHE);
+        Cache cityDayHistoryCache = cacheManager.getCache(CacheKeys.CITY_DAY_HISTORY_CACHE);
+
+        latestWeatherCache.put(CacheKeys.city("London"), "london");
+        latestWeatherCache.put(CacheKeys.city("Paris"), "paris");
+        sevenDaysAverageCache.put(CacheKeys.city("London"), 20.0);
+        sevenDaysAverageCache.put(CacheKeys.city("Paris"), 21.0);
+        cityDayHistoryCache.put(CacheKeys.cityDay("London", DAY), "london-day");
+        cityDayHistoryCache.put(CacheKeys.cityDay("London", DAY.minusDays(1)), "london-previous-day");
+        cityDayHistoryCache.put(CacheKeys.cityDay("Paris", DAY), "paris-day");
+
+        cacheService.evictWeatherCaches(new WeatherMeasurementsSavedEvent(Map.of("LONDON", Set.of(DAY))));
+
+        Assertions.assertThat(latestWeatherCache.get(CacheKeys.city("London"))).isNull();
+        Assertions.assertThat(latestWeatherCache.get(CacheKeys.city("Paris"))).isNotNull();
+        Assertions.assertThat(sevenDaysAverageCache.get(CacheKeys.city("London"))).isNull();
+        Assertions.assertThat(sevenDaysAverageCache.get(CacheKeys.city("Paris"))).isNotNull();
+        Assertions.assertThat(cityDayHistoryCache.get(CacheKeys.cityDay("London", DAY))).isNull();
+        Assertions.assertThat(cityDayHistoryCache.get(CacheKeys.cityDay("London", DAY.minusDays(1)))).isNotNull();
+        Assertions.assertThat(cityDayHistoryCache.get(CacheKeys.cityDay("Paris", DAY))).isNotNull();
+    }
+
+    @Test
+    public void testEvictUserCaches_whenUserChanged_shouldEvictOnlyThatUser() {
+        Cache userDetailsCache = cacheManager.getCache(CacheKeys.USER_DETAILS_CACHE);
+
+        userDetailsCache.put("old@example.com", "old");
+        userDetailsCache.put("other@example.com", "other");
+
+        cacheService.evictUserCaches(new UserChangedEvent(1, Set.of("old@example.com", "new@example.com")));
+
+        Assertions.assertThat(userDetailsCache.get("old@example.com")).isNull();
+        Assertions.assertThat(userDetailsCache.get("other@example.com")).isNotNull();
+    }
+}
@@ -0,0 +1,68 @@
+package org.project.capstone.weather.api.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.excpetion.LocationNotFoundException;
+import org.project.capstone.weather.api.repository.LocationRepository;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheWarmupServiceTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private CityAccessStatsService cityAccessStatsService;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private KnownCityIndex knownCityIndex;
+
+    @Test
+    public void testWarmUp_whenAccessStatisticsExist_shouldWarmUpTopCitiesOnly() {
+        when(cityAccessStatsService.getTopCities(2)).thenReturn(List.of("london", "paris"));
+
+        buildCacheWarmupService(2).warmUp();
+
+        verify(knownCityIndex, times(1)).refresh();
+        verify(weatherService, times(1)).warmUpCity("london");
+        verify(weatherService, times(1)).warmUpCity("paris");
+        verifyNoInteractions(locationRepository);
+    }
+
+    @Test
+    public void testWarmUp_whenAccessStatisticsUnavailable_shouldWarmUpAllLocations() {
+        when(cityAccessStatsService.getTopCities(2)).thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        when(locationRepository.findAllCities()).thenReturn(List.of("London", "Paris", "Berlin"));
+
+        buildCacheWarmupService(2).warmUp();
+
+        verify(weatherService, times(3)).warmUpCity(anyString());
+    }
+
+    @Test
+    public void testWarmUp_whenCityFails_shouldContinueWithRemainingCities() {
+        when(locationRepository.findAllCities()).thenReturn(List.of("London", "Paris"));
+        doThrow(new LocationNotFoundException()).when(weatherService).warmUpCity("London");
+
+        buildCacheWarmupService(0).warmUp();
+
+        verify(weatherService, times(1)).warmUpCity("Paris");
+        verifyNoInteractions(cityAccessStatsService);
+    }
+
+    private CacheWarmupService buildCacheWarmupService(int topCities) {
+        return new CacheWarmupService(weatherService, cityAccessStatsService, locationRepository, knownCityIndex,
+                true, topCities, 2, Duration.ofSeconds(5));
+    }
+}
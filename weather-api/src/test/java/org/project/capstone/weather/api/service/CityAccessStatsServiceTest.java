@@ -0,0 +1,69 @@
+package org.project.capstone.weather.api.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.repository.CityAccessStatsRepository;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CityAccessStatsServiceTest {
+
+    @Mock
+    private CityAccessStatsRepository cityAccessStatsRepository;
+
+    @Mock
+    private KnownCityIndex knownCityIndex;
+
+    @InjectMocks
+    private CityAccessStatsService cityAccessStatsService;
+
+    @Test
+    public void testFlushAccessCounts_whenKnownCitiesAccessed_shouldSaveAggregatedCountsOnce() {
+        when(knownCityIndex.isKnown(anyString())).thenReturn(true);
+        when(knownCityIndex.isKnown("Atlantis")).thenReturn(false);
+
+        cityAccessStatsService.recordAccess("London");
+        cityAccessStatsService.recordAccess("LONDON");
+        cityAccessStatsService.recordAccess("Paris");
+        cityAccessStatsService.recordAccess("Atlantis");
+
+        cityAccessStatsService.flushAccessCounts();
+        cityAccessStatsService.flushAccessCounts();
+
+        verify(cityAccessStatsRepository, times(1)).addAccessCounts(Map.of("london", 2L, "paris", 1L));
+    }
+
+    @Test
+    public void testFlushAccessCounts_whenAccessRecordedAfterFlush_shouldSaveItOnNextFlush() {
+        when(knownCityIndex.isKnown(anyString())).thenReturn(true);
+
+        cityAccessStatsService.recordAccess("London");
+        cityAccessStatsService.flushAccessCounts();
+        cityAccessStatsService.recordAccess("London");
+        cityAccessStatsService.flushAccessCounts();
+
+        verify(cityAccessStatsRepository, times(2)).addAccessCounts(Map.of("london", 1L));
+    }
+
+    @Test
+    public void testFlushAccessCounts_whenSaveFails_shouldKeepCountsForNextFlush() {
+        when(knownCityIndex.isKnown(anyString())).thenReturn(true);
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(cityAccessStatsRepository).addAccessCounts(anyMap());
+
+        cityAccessStatsService.recordAccess("London");
+        cityAccessStatsService.flushAccessCounts();
+        cityAccessStatsService.recordAccess("London");
+        cityAccessStatsService.flushAccessCounts();
+
+        verify(cityAccessStatsRepository, times(1)).addAccessCounts(Map.of("london", 1L));
+        verify(cityAccessStatsRepository, times(1)).addAccessCounts(Map.of("london", 2L));
+    }
+}
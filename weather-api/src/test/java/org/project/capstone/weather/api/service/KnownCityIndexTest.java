@@ -0,0 +1,71 @@
+package org.project.capstone.weather.api.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.repository.LocationRepository;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class KnownCityIndexTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @InjectMocks
+    private KnownCityIndex knownCityIndex;
+
+    @Test
+    public void testMightExist_whenIndexNotLoaded_shouldAllowAnyNonBlankCity() {
+        Assertions.assertThat(knownCityIndex.mightExist("Atlantis")).isTrue();
+        Assertions.assertThat(knownCityIndex.mightExist(" ")).isFalse();
+        Assertions.assertThat(knownCityIndex.mightExist(null)).isFalse();
+    }
+
+    @Test
+    public void testIsKnown_whenIndexNotLoaded_shouldRejectEveryCity() {
+        Assertions.assertThat(knownCityIndex.isKnown("London")).isFalse();
+        Assertions.assertThat(knownCityIndex.isKnown("Atlantis")).isFalse();
+    }
+
+    @Test
+    public void testIsKnown_whenIndexLoaded_shouldMatchKnownCitiesIgnoringCase() {
+        when(locationRepository.findAllCities()).thenReturn(List.of("London"));
+
+        knownCityIndex.refresh();
+
+        Assertions.assertThat(knownCityIndex.isKnown("LONDON")).isTrue();
+        Assertions.assertThat(knownCityIndex.isKnown("Atlantis")).isFalse();
+    }
+
+    @Test
+    public void testMightExist_whenIndexLoaded_shouldMatchKnownCitiesIgnoringCase() {
+        when(locationRepository.findAllCities()).thenReturn(List.of("London", "Paris"));
+
+        knownCityIndex.refresh();
+
+        Assertions.assertThat(knownCityIndex.mightExist("LONDON")).isTrue();
+        Assertions.assertThat(knownCityIndex.mightExist("paris")).isTrue();
+        Assertions.assertThat(knownCityIndex.mightExist("Atlantis")).isFalse();
+    }
+
+    @Test
+    public void testRefresh_whenLoadFails_shouldKeepPreviousIndex() {
+        when(locationRepository.findAllCities())
+                .thenReturn(List.of("London"))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        knownCityIndex.refresh();
+        knownCityIndex.refresh();
+
+        Assertions.assertThat(knownCityIndex.mightExist("London")).isTrue();
+        Assertions.assertThat(knownCityIndex.mightExist("Atlantis")).isFalse();
+    }
+}
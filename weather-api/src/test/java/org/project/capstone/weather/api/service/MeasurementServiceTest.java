@@ -0,0 +1,257 @@
+package org.project.capstone.weather.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.dto.IngestionReport;
+import org.project.capstone.weather.api.dto.MeasurementRequest;
+import org.project.capstone.weather.api.dto.SensorLocation;
+import org.project.capstone.weather.api.entity.*;
+import org.project.capstone.weather.api.event.WeatherMeasurementsSavedEvent;
+import org.project.capstone.weather.api.excpetion.IngestionQueueFullException;
+import org.project.capstone.weather.api.mapper.MeasurementMapper;
+import org.project.capstone.weather.api.mapper.MeasurementMapperImpl;
+import org.project.capstone.weather.api.repository.MeasurementRow;
+import org.project.capstone.weather.api.repository.SensorRepository;
+import org.project.capstone.weather.api.repository.WeatherCopyRepository;
+import org.project.capstone.weather.api.repository.WeatherRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeasurementServiceTest {
+
+    private static final Integer SENSOR_ID = 1;
+
+    @Mock
+    private SensorRepository sensorRepository;
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    @Spy
+    private MeasurementMapper measurementMapper = new MeasurementMapperImpl();
+
+    @Mock
+    private WeatherCopyRepository weatherCopyRepository;
+
+    @Mock
+    private SensorLocationLookup sensorLocationLookup;
+
+    @Mock
+    private MeasurementWriteBuffer writeBuffer;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private MeasurementService measurementService;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAddMeasurements_whenSensorExists_shouldSaveAllMeasurementsForSensorLocation() {
+        LocationEntity location = LocationEntity.builder().id(1).city("London").country("United Kingdom").build();
+        SensorEntity sensor = SensorEntity.builder().id(SENSOR_ID).model("WSMP-500").location(location).build();
+        LocalDateTime createdAt = LocalDateTime.of(2024, Month.MAY, 21, 10, 10, 10);
+
+        List<MeasurementRequest> requests = List.of(
+                buildMeasurementRequest(20.0, createdAt),
+                buildMeasurementRequest(21.0, null)
+        );
+
+        when(sensorRepository.findById(SENSOR_ID)).thenReturn(Optional.of(sensor));
+
+        boolean actualResult = measurementService.addMeasurements(SENSOR_ID, requests);
+
+        ArgumentCaptor<List<WeatherEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(weatherRepository, times(1)).saveAll(captor.capture());
+
+        List<WeatherEntity> saved = captor.getValue();
+
+        Assertions.assertThat(actualResult).isTrue();
+        Assertions.assertThat(saved).hasSize(2);
+        Assertions.assertThat(saved).allSatisfy(weather -> {
+            Assertions.assertThat(weather.getId()).isNull();
+            Assertions.assertThat(weather.getLocation()).isEqualTo(location);
+            Assertions.assertThat(weather.getMeasurement().getSensor()).isEqualTo(sensor);
+            Assertions.assertThat(weather.getMeasurement().getCreatedAt()).isNotNull();
+        });
+        Assertions.assertThat(saved.get(0).getMeasurement().getCreatedAt()).isEqualTo(createdAt);
+
+        ArgumentCaptor<WeatherMeasurementsSavedEvent> eventCaptor = ArgumentCaptor.forClass(WeatherMeasurementsSavedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+
+        Assertions.assertThat(eventCaptor.getValue().daysByCity())
+                .containsOnlyKeys("London")
+                .extractingByKey("London")
+                .satisfies(days -> Assertions.assertThat(days).contains(createdAt.toLocalDate(), LocalDate.now()));
+    }
+
+    @Test
+    public void testAddMeasurements_whenSensorDoesNotExist_shouldReturnFalse() {
+        when(sensorRepository.findById(SENSOR_ID)).thenReturn(Optional.empty());
+
+        boolean actualResult = measurementService.addMeasurements(SENSOR_ID, List.of(buildMeasurementRequest(20.0, null)));
+
+        Assertions.assertThat(actualResult).isFalse();
+
+        verifyNoInteractions(weatherRepository, eventPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testQueueMeasurements_whenSensorExists_shouldOfferRowsToWriteBuffer() {
+        when(sensorLocationLookup.findBySensorId(SENSOR_ID)).thenReturn(Optional.of(new SensorLocation(SENSOR_ID, 7, "London")));
+        when(writeBuffer.offer(anyList())).thenReturn(true);
+
+        boolean actualResult = measurementService.queueMeasurements(SENSOR_ID,
+                List.of(buildMeasurementRequest(20.0, null), buildMeasurementRequest(21.0, null)));
+
+        ArgumentCaptor<List<MeasurementRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writeBuffer, times(1)).offer(captor.capture());
+
+        Assertions.assertThat(actualResult).isTrue();
+        Assertions.assertThat(captor.getValue()).hasSize(2).allSatisfy(row -> {
+            Assertions.assertThat(row.sensorId()).isEqualTo(SENSOR_ID);
+            Assertions.assertThat(row.locationId()).isEqualTo(7);
+            Assertions.assertThat(row.city()).isEqualTo("London");
+            Assertions.assertThat(row.measurement().getCreatedAt()).isNotNull();
+        });
+        verifyNoInteractions(weatherRepository, weatherCopyRepository, eventPublisher);
+    }
+
+    @Test
+    public void testQueueMeasurements_whenBufferIsFull_shouldThrowIngestionQueueFullException() {
+        when(sensorLocationLookup.findBySensorId(SENSOR_ID)).thenReturn(Optional.of(new SensorLocation(SENSOR_ID, 7, "London")));
+        when(writeBuffer.offer(anyList())).thenReturn(false);
+
+        Assertions.assertThatThrownBy(() -> measurementService.queueMeasurements(SENSOR_ID,
+                        List.of(buildMeasurementRequest(20.0, null))))
+                .isInstanceOf(IngestionQueueFullException.class);
+    }
+
+    @Test
+    public void testQueueMeasurements_whenSensorDoesNotExist_shouldReturnFalse() {
+        when(sensorLocationLookup.findBySensorId(SENSOR_ID)).thenReturn(Optional.empty());
+
+        boolean actualResult = measurementService.queueMeasurements(SENSOR_ID, List.of(buildMeasurementRequest(20.0, null)));
+
+        Assertions.assertThat(actualResult).isFalse();
+
+        verifyNoInteractions(writeBuffer);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testImportMeasurements_whenStreamContainsInvalidLines_shouldCopyValidRowsAndReportRejects() throws IOException {
+        String body = """
+                {"sensorId": 1, "measurement": {"temperature": 20.0, "windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY", "createdAt": "2024-05-21T10:10:10"}}
+                {"sensorId": 1, "measurement": {"temperature": 20.0
+                                
+                {"sensorId": 99, "measurement": {"temperature": 20.0, "windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY"}}
+                {"sensorId": 1, "measurement": {"windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY"}}
+                {"sensorId": 1, "measurement": {"temperature": 21.0, "windSpeed": 2.0, "windDirection": "SOUTH", "humidity": 50.0, "weatherCondition": "CLOUDY"}}
+                """;
+
+        when(sensorLocationLookup.findBySensorId(1)).thenReturn(Optional.of(new SensorLocation(1, 7, "London")));
+        when(sensorLocationLookup.findBySensorId(99)).thenReturn(Optional.empty());
+        when(weatherCopyRepository.copy(anyList())).thenAnswer(invocation -> (long) ((List<?>) invocation.getArgument(0)).size());
+
+        IngestionReport report = measurementService.importMeasurements(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<List<MeasurementRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(weatherCopyRepository, times(1)).copy(captor.capture());
+
+        Assertions.assertThat(report.accepted()).isEqualTo(2);
+        Assertions.assertThat(report.rejected()).isEqualTo(3);
+        Assertions.assertThat(report.rejects())
+                .extracting(IngestionReport.LineReject::line)
+                .containsExactly(2L, 4L, 5L);
+        Assertions.assertThat(report.rejects().get(1).reason()).isEqualTo("Unknown sensor: 99");
+        Assertions.assertThat(captor.getValue()).allSatisfy(row -> {
+            Assertions.assertThat(row.sensorId()).isEqualTo(1);
+            Assertions.assertThat(row.locationId()).isEqualTo(7);
+        });
+        verify(eventPublisher, times(1)).publishEvent(new WeatherMeasurementsSavedEvent(
+                Map.of("London", Set.of(LocalDate.of(2024, Month.MAY, 21), LocalDate.now()))));
+        verifyNoInteractions(weatherRepository);
+    }
+
+    @Test
+    public void testImportMeasurements_whenStreamSpansSeveralChunks_shouldCommitEachChunkSeparately() throws IOException {
+        String line = """
+                {"sensorId": 1, "measurement": {"temperature": 20.0, "windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY", "createdAt": "2024-05-21T10:10:10"}}
+                """;
+        String body = line.repeat(5_001);
+
+        when(sensorLocationLookup.findBySensorId(1)).thenReturn(Optional.of(new SensorLocation(1, 7, "London")));
+        when(weatherCopyRepository.copy(anyList())).thenAnswer(invocation -> (long) ((List<?>) invocation.getArgument(0)).size());
+
+        IngestionReport report = measurementService.importMeasurements(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertThat(report.accepted()).isEqualTo(5_001);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(weatherCopyRepository, times(2)).copy(anyList());
+        verify(eventPublisher, times(2)).publishEvent(new WeatherMeasurementsSavedEvent(
+                Map.of("London", Set.of(LocalDate.of(2024, Month.MAY, 21)))));
+    }
+
+    @Test
+    public void testImportMeasurements_whenMeasurementIsFutureDated_shouldRejectLine() throws IOException {
+        String body = """
+                {"sensorId": 1, "measurement": {"temperature": 20.0, "windSpeed": 2.0, "windDirection": "NORTH", "humidity": 50.0, "weatherCondition": "SUNNY", "createdAt": "2999-05-21T10:10:10"}}
+                """;
+
+        IngestionReport report = measurementService.importMeasurements(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertThat(report.accepted()).isZero();
+        Assertions.assertThat(report.rejected()).isEqualTo(1);
+        Assertions.assertThat(report.rejects().get(0).reason()).startsWith("measurement.createdAt");
+        verifyNoInteractions(weatherCopyRepository, sensorLocationLookup);
+    }
+
+    private MeasurementRequest buildMeasurementRequest(Double temperature, LocalDateTime createdAt) {
+        return MeasurementRequest.builder()
+                .temperature(temperature)
+                .windSpeed(2.0)
+                .windDirection(WindDirection.NORTH)
+                .humidity(50.0)
+                .weatherCondition(WeatherCondition.SUNNY)
+                .createdAt(createdAt)
+                .build();
+    }
+}
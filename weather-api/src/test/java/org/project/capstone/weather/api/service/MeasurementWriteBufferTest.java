@@ -0,0 +1,187 @@
+package org.project.capstone.weather.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.entity.MeasurementEmbedded;
+import org.project.capstone.weather.api.entity.WeatherCondition;
+import org.project.capstone.weather.api.entity.WindDirection;
+import org.project.capstone.weather.api.repository.MeasurementDeadLetterRepository;
+import org.project.capstone.weather.api.repository.MeasurementRow;
+import org.project.capstone.weather.api.repository.WeatherCopyRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeasurementWriteBufferTest {
+
+    private static final int BAD_SENSOR_ID = 13;
+
+    @Mock
+    private WeatherCopyRepository weatherCopyRepository;
+
+    @Mock
+    private MeasurementDeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testStop_whenRowsQueued_shouldFlushAllRowsInBatchesOfConfiguredSize() {
+        MeasurementWriteBuffer buffer = buildBuffer(100, 2, 3);
+        List<List<MeasurementRow>> committed = recordCommittedBatches();
+        buffer.start();
+
+        Assertions.assertThat(buffer.offer(rows(1, 2, 3, 4, 5))).isTrue();
+        buffer.stop();
+
+        Assertions.assertThat(committed).allSatisfy(batch -> Assertions.assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        Assertions.assertThat(committed.stream().mapToInt(List::size).sum()).isEqualTo(5);
+        verify(eventPublisher, times(committed.size())).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void testOffer_whenCapacityWouldBeExceeded_shouldRejectWholeRequest() {
+        MeasurementWriteBuffer buffer = buildBuffer(3, 100, 3);
+        buffer.start();
+
+        Assertions.assertThat(buffer.offer(rows(1, 2))).isTrue();
+        Assertions.assertThat(buffer.offer(rows(3, 4))).isFalse();
+        Assertions.assertThat(buffer.offer(rows(3))).isTrue();
+
+        buffer.stop();
+        verify(weatherCopyRepository, times(1)).copy(anyList());
+    }
+
+    @Test
+    public void testOffer_whenBufferNotRunning_shouldReject() {
+        MeasurementWriteBuffer buffer = buildBuffer(100, 100, 3);
+
+        Assertions.assertThat(buffer.offer(rows(1))).isFalse();
+        verifyNoInteractions(weatherCopyRepository);
+    }
+
+    @Test
+    public void testStop_whenCommitFailsTransiently_shouldRetryUntilItSucceeds() {
+        MeasurementWriteBuffer buffer = buildBuffer(100, 100, 3);
+        when(weatherCopyRepository.copy(anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(2L);
+        buffer.start();
+
+        buffer.offer(rows(1, 2));
+        buffer.stop();
+
+        verify(weatherCopyRepository, times(2)).copy(anyList());
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    public void testStop_whenOneRowViolatesConstraint_shouldDeadLetterOnlyThatRow() {
+        MeasurementWriteBuffer buffer = buildBuffer(100, 100, 3);
+        List<List<MeasurementRow>> committed = recordCommittedBatches();
+        buffer.start();
+
+        buffer.offer(rows(1, 2, BAD_SENSOR_ID, 4, 5));
+        buffer.stop();
+
+        ArgumentCaptor<MeasurementRow> deadLetter = ArgumentCaptor.forClass(MeasurementRow.class);
+        verify(deadLetterRepository, times(1)).save(deadLetter.capture(), anyString());
+        Assertions.assertThat(deadLetter.getValue().sensorId()).isEqualTo(BAD_SENSOR_ID);
+        Assertions.assertThat(committed.stream().flatMap(List::stream).map(MeasurementRow::sensorId))
+                .containsExactlyInAnyOrder(1, 2, 4, 5);
+    }
+
+    @Test
+    public void testStop_whenCommitKeepsFailingTransiently_shouldDeadLetterEveryRow() {
+        MeasurementWriteBuffer buffer = buildBuffer(100, 100, 3);
+        when(weatherCopyRepository.copy(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+        buffer.start();
+
+        buffer.offer(rows(1, 2));
+        buffer.stop();
+
+        ArgumentCaptor<MeasurementRow> deadLetter = ArgumentCaptor.forClass(MeasurementRow.class);
+        verify(weatherCopyRepository, times(3)).copy(anyList());
+        verify(deadLetterRepository, times(2)).save(deadLetter.capture(), eq("timeout"));
+        Assertions.assertThat(deadLetter.getAllValues()).extracting(MeasurementRow::sensorId).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testStop_whenOffersRaceWithStop_shouldCommitEveryAcceptedRow() throws Exception {
+        MeasurementWriteBuffer buffer = buildBuffer(1_000_000, 1000, 3);
+        List<List<MeasurementRow>> committed = recordCommittedBatches();
+        AtomicInteger accepted = new AtomicInteger();
+        buffer.start();
+
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            producers.submit(() -> {
+                while (buffer.offer(rows(1))) {
+                    accepted.incrementAndGet();
+                }
+            });
+        }
+        Thread.sleep(50);
+        buffer.stop();
+        producers.shutdown();
+        Assertions.assertThat(producers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(committed.stream().mapToInt(List::size).sum()).isEqualTo(accepted.get());
+    }
+
+    private List<List<MeasurementRow>> recordCommittedBatches() {
+        List<List<MeasurementRow>> committed = new ArrayList<>();
+        when(weatherCopyRepository.copy(anyList())).thenAnswer(invocation -> {
+            List<MeasurementRow> batch = List.copyOf(invocation.getArgument(0));
+            if (batch.stream().anyMatch(row -> row.sensorId() == BAD_SENSOR_ID)) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            committed.add(batch);
+            return (long) batch.size();
+        });
+        return committed;
+    }
+
+    private MeasurementWriteBuffer buildBuffer(int capacity, int batchSize, int maxAttempts) {
+        return new MeasurementWriteBuffer(weatherCopyRepository, deadLetterRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher, new SimpleMeterRegistry(),
+                true, capacity, batchSize, Duration.ofHours(1), maxAttempts, Duration.ofMillis(1), Duration.ofMillis(2));
+    }
+
+    private static List<MeasurementRow> rows(int... sensorIds) {
+        return IntStream.of(sensorIds)
+                .mapToObj(sensorId -> new MeasurementRow(sensorId, 7, "London", MeasurementEmbedded.builder()
+                        .temperature(20.0)
+                        .windSpeed(2.0)
+                        .windDirection(WindDirection.NORTH)
+                        .humidity(50.0)
+                        .weatherCondition(WeatherCondition.SUNNY)
+                        .createdAt(LocalDateTime.of(2024, Month.MAY, 21, 10, 0))
+                        .build()))
+                .toList();
+    }
+}
@@ -0,0 +1,52 @@
+package org.project.capstone.weather.api.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.dto.SensorLocation;
+import org.project.capstone.weather.api.event.SensorLocationChangedEvent;
+import org.project.capstone.weather.api.repository.SensorRepository;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SensorLocationLookupTest {
+
+    @Mock
+    private SensorRepository sensorRepository;
+
+    @InjectMocks
+    private SensorLocationLookup sensorLocationLookup;
+
+    @Test
+    public void testRefresh_whenSensorRemovedOnOtherNode_shouldDropCachedLocation() {
+        when(sensorRepository.findAllSensorLocations())
+                .thenReturn(List.of(new SensorLocation(1, 7, "London")))
+                .thenReturn(List.of());
+
+        sensorLocationLookup.refresh();
+        Assertions.assertThat(sensorLocationLookup.findBySensorId(1)).isPresent();
+
+        sensorLocationLookup.handleNotification("DELETE");
+
+        Assertions.assertThat(sensorLocationLookup.findBySensorId(1)).isEmpty();
+        verify(sensorRepository, times(2)).findAllSensorLocations();
+    }
+
+    @Test
+    public void testOnSensorLocationChanged_shouldApplyCommittedChanges() {
+        when(sensorRepository.findAllSensorLocations()).thenReturn(List.of(new SensorLocation(1, 7, "London")));
+        sensorLocationLookup.refresh();
+
+        sensorLocationLookup.onSensorLocationChanged(new SensorLocationChangedEvent(2, new SensorLocation(2, 8, "Paris")));
+        sensorLocationLookup.onSensorLocationChanged(SensorLocationChangedEvent.removed(1));
+
+        Assertions.assertThat(sensorLocationLookup.findBySensorId(2)).contains(new SensorLocation(2, 8, "Paris"));
+        Assertions.assertThat(sensorLocationLookup.findBySensorId(1)).isEmpty();
+    }
+}
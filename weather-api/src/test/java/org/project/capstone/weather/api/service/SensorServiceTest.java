@@ -17,6 +17,8 @@ import org.project.capstone.weather.api.entity.SensorEntity;
 import org.project.capstone.weather.api.excpetion.LocationNotFoundException;
 import org.project.capstone.weather.api.mapper.SensorMapper;
 import org.project.capstone.weather.api.repository.SensorRepository;
+import org.project.capstone.weather.api.event.SensorLocationChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,6 +45,9 @@ public class SensorServiceTest {
     @Mock
     private LocationService locationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SensorService sensorService;
 
@@ -236,6 +241,7 @@ public class SensorServiceTest {
 
         verify(sensorRepository, times(1)).findById(anyInt());
         verify(sensorRepository, times(1)).delete(any(SensorEntity.class));
+        verify(eventPublisher, times(1)).publishEvent(SensorLocationChangedEvent.removed(SENSOR_ID));
     }
 
     @Test
@@ -12,9 +12,13 @@ import org.project.capstone.weather.api.dto.UserCreateEditRequest;
 import org.project.capstone.weather.api.dto.UserResponse;
 import org.project.capstone.weather.api.dto.filter.UserSearchFilter;
 import org.project.capstone.weather.api.entity.Role;
+import org.project.capstone.weather.api.event.UserChangedEvent;
 import org.project.capstone.weather.api.entity.UserEntity;
+import org.project.capstone.weather.api.mapper.PasswordEncodingMapper;
 import org.project.capstone.weather.api.mapper.UserCreateEditMapper;
 import org.project.capstone.weather.api.repository.UserRepository;
+import org.project.capstone.weather.api.security.TokenRevocationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -39,6 +44,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenRevocationService revocationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Spy
     private UserCreateEditMapper userCreateEditMapper = Mappers.getMapper(UserCreateEditMapper.class);
 
@@ -201,6 +212,98 @@ class UserServiceTest {
         verify(userCreateEditMapper, times(2)).userToUserResponse(updatedUserEntity);
     }
 
+    @Test
+    public void testUpdateUser_whenRoleChanged_shouldRevokeTokens() {
+        UserCreateEditRequest createEditRequest = new UserCreateEditRequest(
+                "john.doe@example.com",
+                "testpassword",
+                "John",
+                "Doe",
+                Role.ADMIN);
+        UserEntity existingUserEntity = UserEntity.builder()
+                .id(USER_ID)
+                .email("john.doe@example.com")
+                .role(Role.USER)
+                .build();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUserEntity));
+        when(userRepository.saveAndFlush(existingUserEntity)).thenReturn(existingUserEntity);
+
+        userService.updateUser(USER_ID, createEditRequest);
+
+        verify(revocationService, times(1)).revokeTokens(USER_ID);
+        verify(eventPublisher, times(1)).publishEvent(new UserChangedEvent(USER_ID, Set.of("john.doe@example.com")));
+    }
+
+    @Test
+    public void testUpdateUser_whenRoleUnchanged_shouldKeepTokens() {
+        UserCreateEditRequest createEditRequest = new UserCreateEditRequest(
+                "john.doe@example.com",
+                "testpassword",
+                "Johnny",
+                "Doe",
+                Role.USER);
+        UserEntity existingUserEntity = UserEntity.builder()
+                .id(USER_ID)
+                .email("john.doe@example.com")
+                .password(PasswordEncodingMapper.encode("testpassword"))
+                .role(Role.USER)
+                .build();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUserEntity));
+        when(userRepository.saveAndFlush(existingUserEntity)).thenReturn(existingUserEntity);
+
+        userService.updateUser(USER_ID, createEditRequest);
+
+        verifyNoInteractions(revocationService);
+    }
+
+    @Test
+    public void testUpdateUser_whenEmailChanged_shouldRevokeTokens() {
+        UserCreateEditRequest createEditRequest = new UserCreateEditRequest(
+                "john.new@example.com",
+                "testpassword",
+                "John",
+                "Doe",
+                Role.USER);
+        UserEntity existingUserEntity = UserEntity.builder()
+                .id(USER_ID)
+                .email("john.doe@example.com")
+                .password(PasswordEncodingMapper.encode("testpassword"))
+                .role(Role.USER)
+                .build();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUserEntity));
+        when(userRepository.saveAndFlush(existingUserEntity)).thenReturn(existingUserEntity);
+
+        userService.updateUser(USER_ID, createEditRequest);
+
+        verify(revocationService, times(1)).revokeTokens(USER_ID);
+    }
+
+    @Test
+    public void testUpdateUser_whenPasswordChanged_shouldRevokeTokens() {
+        UserCreateEditRequest createEditRequest = new UserCreateEditRequest(
+                "john.doe@example.com",
+                "newpassword",
+                "John",
+                "Doe",
+                Role.USER);
+        UserEntity existingUserEntity = UserEntity.builder()
+                .id(USER_ID)
+                .email("john.doe@example.com")
+                .password(PasswordEncodingMapper.encode("testpassword"))
+                .role(Role.USER)
+                .build();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUserEntity));
+        when(userRepository.saveAndFlush(existingUserEntity)).thenReturn(existingUserEntity);
+
+        userService.updateUser(USER_ID, createEditRequest);
+
+        verify(revocationService, times(1)).revokeTokens(USER_ID);
+    }
+
     @Test
     public void testUpdateUser_whenUserDoesNotExist() {
         // Arrange
@@ -226,7 +329,10 @@ class UserServiceTest {
     @Test
     public void testDeleteUser_whenUserExists() {
         // Arrange
-        UserEntity existingUser = new UserEntity();
+        UserEntity existingUser = UserEntity.builder()
+                .id(USER_ID)
+                .email("john.doe@example.com")
+                .build();
 
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUser));
 
@@ -238,6 +344,8 @@ class UserServiceTest {
 
         verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, times(1)).delete(existingUser);
+        verify(revocationService, times(1)).revokeTokens(USER_ID);
+        verify(eventPublisher, times(1)).publishEvent(new UserChangedEvent(USER_ID, Set.of("john.doe@example.com")));
     }
 
     @Test
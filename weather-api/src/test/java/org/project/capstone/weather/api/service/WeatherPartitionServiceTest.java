@@ -0,0 +1,67 @@
+package org.project.capstone.weather.api.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.repository.WeatherPartitionRepository;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WeatherPartitionServiceTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2024, 6);
+
+    @Mock
+    private WeatherPartitionRepository weatherPartitionRepository;
+
+
+    @Test
+    public void testMaintainPartitions_whenFutureMonthsAreMissing_shouldCreateOnlyMissingPartitions() {
+        WeatherPartitionService weatherPartitionService = new WeatherPartitionService(weatherPartitionRepository, 3, 0);
+
+        when(weatherPartitionRepository.findMonthlyPartitions())
+                .thenReturn(List.of(YearMonth.of(2024, 5), CURRENT_MONTH, YearMonth.of(2024, 7)));
+
+        weatherPartitionService.maintainPartitions(CURRENT_MONTH);
+
+        verify(weatherPartitionRepository, times(1)).createMonthlyPartition(YearMonth.of(2024, 8));
+        verify(weatherPartitionRepository, times(1)).createMonthlyPartition(YearMonth.of(2024, 9));
+        verify(weatherPartitionRepository, times(2)).createMonthlyPartition(any(YearMonth.class));
+        verify(weatherPartitionRepository, never()).detachAndDropMonthlyPartition(any(YearMonth.class));
+    }
+
+    @Test
+    public void testMaintainPartitions_whenRetentionIsConfigured_shouldDropExpiredPartitions() {
+        WeatherPartitionService weatherPartitionService = new WeatherPartitionService(weatherPartitionRepository, 0, 2);
+
+        when(weatherPartitionRepository.findMonthlyPartitions()).thenReturn(List.of(
+                YearMonth.of(2024, 2), YearMonth.of(2024, 3), YearMonth.of(2024, 4), YearMonth.of(2024, 5), CURRENT_MONTH));
+
+        weatherPartitionService.maintainPartitions(CURRENT_MONTH);
+
+        verify(weatherPartitionRepository, times(1)).detachAndDropMonthlyPartition(YearMonth.of(2024, 2));
+        verify(weatherPartitionRepository, times(1)).detachAndDropMonthlyPartition(YearMonth.of(2024, 3));
+        verify(weatherPartitionRepository, times(2)).detachAndDropMonthlyPartition(any(YearMonth.class));
+        verify(weatherPartitionRepository, never()).createMonthlyPartition(any(YearMonth.class));
+    }
+
+    @Test
+    public void testMaintainPartitions_whenPartitionCreationFails_shouldContinueWithNextMonth() {
+        WeatherPartitionService weatherPartitionService = new WeatherPartitionService(weatherPartitionRepository, 1, 0);
+
+        when(weatherPartitionRepository.findMonthlyPartitions()).thenReturn(List.of());
+        doThrow(new CannotAcquireLockException("canceling statement due to lock timeout"))
+                .when(weatherPartitionRepository).createMonthlyPartition(CURRENT_MONTH);
+
+        weatherPartitionService.maintainPartitions(CURRENT_MONTH);
+
+        verify(weatherPartitionRepository, times(1)).createMonthlyPartition(YearMonth.of(2024, 7));
+    }
+}
@@ -0,0 +1,55 @@
+package org.project.capstone.weather.api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.repository.WeatherRollupRepository;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WeatherRollupServiceTest {
+
+    private static final long WATERMARK = 1000L;
+
+    @Mock
+    private WeatherRollupRepository weatherRollupRepository;
+
+    private WeatherRollupService weatherRollupService;
+
+    @BeforeEach
+    public void setup() {
+        weatherRollupService = new WeatherRollupService(weatherRollupRepository);
+    }
+
+    @Test
+    public void testRefreshRollups_whenNewRowsMayExist_shouldRefreshHourlyThenDailyAndAdvanceWatermark() {
+        long upperBound = WATERMARK + 25;
+
+        when(weatherRollupRepository.lockWatermark()).thenReturn(WATERMARK);
+        when(weatherRollupRepository.findRollupUpperBound()).thenReturn(upperBound);
+
+        weatherRollupService.refreshRollupsAtIntervals();
+
+        InOrder inOrder = inOrder(weatherRollupRepository);
+        inOrder.verify(weatherRollupRepository).refreshHourly(WATERMARK, upperBound);
+        inOrder.verify(weatherRollupRepository).refreshDaily(WATERMARK, upperBound);
+        inOrder.verify(weatherRollupRepository).updateWatermark(upperBound);
+    }
+
+    @Test
+    public void testRefreshRollups_whenUpperBoundNotAfterWatermark_shouldDoNothing() {
+        when(weatherRollupRepository.lockWatermark()).thenReturn(WATERMARK);
+        when(weatherRollupRepository.findRollupUpperBound()).thenReturn(WATERMARK);
+
+        weatherRollupService.refreshRollupsAtIntervals();
+
+        verify(weatherRollupRepository, never()).refreshHourly(anyLong(), anyLong());
+        verify(weatherRollupRepository, never()).refreshDaily(anyLong(), anyLong());
+        verify(weatherRollupRepository, never()).updateWatermark(anyLong());
+    }
+}
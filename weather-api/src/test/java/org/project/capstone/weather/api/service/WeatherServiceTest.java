@@ -1,27 +1,55 @@
 package org.project.capstone.weather.api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.capstone.weather.api.config.HttpCacheProperties;
 import org.project.capstone.weather.api.dto.AverageWeatherResponse;
+import org.project.capstone.weather.api.dto.HistoryCursor;
+import org.project.capstone.weather.api.dto.WeatherHistorySliceResponse;
 import org.project.capstone.weather.api.dto.LocationResponse;
 import org.project.capstone.weather.api.dto.WeatherResponse;
+import org.project.capstone.weather.api.dto.series.SeriesAggregation;
+import org.project.capstone.weather.api.dto.series.SeriesBucket;
+import org.project.capstone.weather.api.dto.series.SeriesMetric;
+import org.project.capstone.weather.api.dto.series.SeriesResponse;
 import org.project.capstone.weather.api.entity.*;
+import org.project.capstone.weather.api.excpetion.InvalidSeriesRangeException;
+import org.project.capstone.weather.api.excpetion.LocationNotFoundException;
 import org.project.capstone.weather.api.interceptor.UnitsContext;
 import org.project.capstone.weather.api.mapper.WeatherMapper;
+import org.project.capstone.weather.api.repository.LatestWeatherRepository;
 import org.project.capstone.weather.api.repository.WeatherRepository;
+import org.project.capstone.weather.api.repository.WeatherRollupRepository;
+import org.project.capstone.weather.api.repository.WeatherRollupRow;
+import org.project.capstone.weather.api.util.cache.SerializedPayload;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.mockito.Mockito.*;
 
@@ -33,33 +61,178 @@ public class WeatherServiceTest {
     @Mock
     private WeatherRepository weatherRepository;
 
+    @Mock
+    private LatestWeatherRepository latestWeatherRepository;
+
+    @Mock
+    private WeatherRollupRepository weatherRollupRepository;
+
     @Mock
     private WeatherMapper weatherMapper;
 
     @Mock
     private UnitsContext unitsContext;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @Mock
+    private LatestWeatherCacheLoader latestWeatherCacheLoader;
+
+    @Mock
+    private KnownCityIndex knownCityIndex;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private HttpCacheProperties httpCacheProperties = new HttpCacheProperties(null, true, false);
+
     @InjectMocks
     private WeatherService weatherService;
 
     @BeforeEach
     public void setup() {
         lenient().when(unitsContext.getUnits()).thenReturn("metric");
+        lenient().when(knownCityIndex.mightExist(anyString())).thenReturn(true);
     }
 
     @Test
     public void testGetLatestWeatherByCity_whenCityExists_shouldReturnWeatherResponse() {
         WeatherResponse expectedResponse = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10));
-        WeatherEntity weather = buildWeatherEntity(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10));
 
-        when(weatherRepository.findLatestWeatherByCity(anyString())).thenReturn(Optional.of(weather));
-        when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(expectedResponse);
+        when(latestWeatherCacheLoader.load("london")).thenReturn(expectedResponse);
 
         Optional<WeatherResponse> actualResponse = weatherService.getLatestWeatherByCity(CITY);
+        Optional<WeatherResponse> cachedResponse = weatherService.getLatestWeatherByCity("LONDON");
 
         Assertions.assertThat(actualResponse).contains(expectedResponse);
+        Assertions.assertThat(cachedResponse).contains(expectedResponse);
+
+        verify(latestWeatherCacheLoader, times(1)).load("london");
+        verifyNoInteractions(weatherRepository);
+    }
 
-        verify(weatherRepository, times(1)).findLatestWeatherByCity(anyString());
+    @Test
+    public void testGetLatestWeatherByCity_whenConcurrentMisses_shouldLoadOnce() throws Exception {
+        WeatherResponse expectedResponse = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(latestWeatherCacheLoader.load("london")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return expectedResponse;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<WeatherResponse>>> responses = new ArrayList<>();
+            responses.add(executor.submit(() -> weatherService.getLatestWeatherByCity(CITY)));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                responses.add(executor.submit(() -> weatherService.getLatestWeatherByCity(CITY)));
+            }
+            release.countDown();
+
+            for (Future<Optional<WeatherResponse>> response : responses) {
+                Assertions.assertThat(response.get(5, TimeUnit.SECONDS)).contains(expectedResponse);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(latestWeatherCacheLoader, times(1)).load("london");
+    }
+
+    @Test
+    public void testGetLatestWeatherByCity_whenCityHasNoWeather_shouldReturnEmpty() {
+        when(latestWeatherCacheLoader.load("london")).thenReturn(null);
+
+        Optional<WeatherResponse> actualResponse = weatherService.getLatestWeatherByCity(CITY);
+
+        Assertions.assertThat(actualResponse).isEmpty();
+    }
+
+    @Test
+    public void testGetLatestWeatherByCity_whenCityIsUnknown_shouldReturnEmptyWithoutLoading() {
+        when(knownCityIndex.mightExist("Atlantis")).thenReturn(false);
+
+        Optional<WeatherResponse> actualResponse = weatherService.getLatestWeatherByCity("Atlantis");
+
+        Assertions.assertThat(actualResponse).isEmpty();
+
+        verifyNoInteractions(latestWeatherCacheLoader, latestWeatherRepository);
+    }
+
+    @Test
+    public void testGetLatestWeatherPayloadByCity_whenCityExists_shouldCarryCreatedAtOfSerializedReading() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10);
+        when(latestWeatherCacheLoader.load("london")).thenReturn(buildWeatherResponse(20.0, createdAt));
+
+        Optional<SerializedPayload> payload = weatherService.getLatestWeatherPayloadByCity(CITY);
+
+        Assertions.assertThat(payload).map(SerializedPayload::createdAt).contains(createdAt);
+
+        verify(latestWeatherCacheLoader, times(1)).load("london");
+        verifyNoInteractions(weatherMapper);
+    }
+
+    @Test
+    public void testGetLatestWeatherPayloadByCity_whenCityExists_shouldCacheSerializedBytesPerUnits() throws Exception {
+        WeatherResponse celsiusResponse = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10));
+        when(latestWeatherCacheLoader.load("london")).thenReturn(celsiusResponse);
+
+        Optional<SerializedPayload> metricPayload = weatherService.getLatestWeatherPayloadByCity(CITY);
+        weatherService.getLatestWeatherPayloadByCity("LONDON");
+        when(unitsContext.getUnits()).thenReturn("imperial");
+        Optional<SerializedPayload> imperialPayload = weatherService.getLatestWeatherPayloadByCity(CITY);
+
+        byte[] expectedMetricBody = writeValueAsBytes(celsiusResponse);
+        byte[] expectedImperialBody = writeValueAsBytes(celsiusResponse.withTemperature(68.0).withFeelsLikeTemperature(77.0));
+
+        Assertions.assertThat(metricPayload).hasValueSatisfying(payload ->
+                Assertions.assertThat(payload.body()).isEqualTo(expectedMetricBody));
+        Assertions.assertThat(imperialPayload).hasValueSatisfying(payload ->
+                Assertions.assertThat(payload.body()).isEqualTo(expectedImperialBody));
+
+        verify(objectMapper, times(2)).writeValueAsBytes(any(WeatherResponse.class));
+        verify(latestWeatherCacheLoader, times(1)).load("london");
+    }
+
+    @Test
+    public void testWarmUpCity_whenCityHasWeather_shouldPopulateLatestPayloadAndAverageCaches() {
+        when(latestWeatherCacheLoader.load("london"))
+                .thenReturn(buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10)));
+        when(weatherRollupRepository.findAverageTemperatureByCity(eq(CITY), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(20.0));
+
+        weatherService.warmUpCity(CITY);
+
+        Assertions.assertThat(cacheManager.getCache("cities").get("london")).isNotNull();
+        Assertions.assertThat(cacheManager.getCache("latestWeatherPayload").get("london|metric")).isNotNull();
+        Assertions.assertThat(cacheManager.getCache("latestWeatherPayload").get("london|imperial")).isNotNull();
+        Assertions.assertThat(cacheManager.getCache("sevenDaysAverage").get("london", Double.class)).isEqualTo(20.0);
+
+        verifyNoInteractions(unitsContext);
+    }
+
+    @Test
+    public void testGetWeatherByCities_shouldReturnLatestWeatherResponsePerCity() {
+        WeatherResponse expectedResponse = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10));
+        LatestWeatherEntity weather = buildLatestWeatherEntity(20.0, LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10));
+
+        when(latestWeatherRepository.findAllByCities(List.of(CITY))).thenReturn(List.of(weather));
+        when(weatherMapper.latestWeatherToWeatherResponse(weather)).thenReturn(expectedResponse);
+
+        List<WeatherResponse> actualResponse = weatherService.getWeatherByCities(List.of(CITY));
+
+        Assertions.assertThat(actualResponse).containsExactly(expectedResponse);
+
+        verifyNoInteractions(weatherRepository);
     }
 
     @Test
@@ -80,6 +253,83 @@ public class WeatherServiceTest {
         verify(weatherRepository, times(1)).findByCityAndDateRange(eq(CITY), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
+    @Test
+    public void testGetWeatherHistoryByCityAndDateRange_whenPastDaysAlreadyCached_shouldQueryOnlyMissingDays() {
+        LocalDate startDate = LocalDate.of(2024, Month.MAY, 1);
+        LocalDate endDate = LocalDate.of(2024, Month.MAY, 3);
+        WeatherEntity weather = buildWeatherEntity(20.0, LocalDateTime.of(2024, Month.MAY, 2, 10, 10, 10));
+        WeatherEntity weather2 = buildWeatherEntity(21.0, LocalDateTime.of(2024, Month.MAY, 4, 10, 10, 10));
+        WeatherResponse expectedResponse = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 2, 10, 10, 10));
+        WeatherResponse expectedResponse2 = buildWeatherResponse(21.0, LocalDateTime.of(2024, Month.MAY, 4, 10, 10, 10));
+
+        when(weatherRepository.findByCityAndDateRange(CITY, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(weather));
+        when(weatherRepository.findByCityAndDateRange("LONDON", endDate.plusDays(1).atStartOfDay(), endDate.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of(weather2));
+        when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(expectedResponse);
+        when(weatherMapper.weatherToWeatherResponse(weather2)).thenReturn(expectedResponse2);
+
+        List<WeatherResponse> firstResponse = weatherService.getWeatherHistoryByCityAndDateRange(CITY, startDate, endDate);
+        List<WeatherResponse> secondResponse = weatherService.getWeatherHistoryByCityAndDateRange("LONDON", startDate, endDate.plusDays(1));
+
+        Assertions.assertThat(firstResponse).containsExactly(expectedResponse);
+        Assertions.assertThat(secondResponse).containsExactly(expectedResponse2, expectedResponse);
+
+        verify(weatherRepository, times(1)).findByCityAndDateRange(CITY, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+        verify(weatherRepository, times(1)).findByCityAndDateRange("LONDON", endDate.plusDays(1).atStartOfDay(), endDate.plusDays(2).atStartOfDay());
+    }
+
+    @Test
+    public void testGetWeatherHistoryByCityAndDateRange_whenCachedDaySplitsRange_shouldQueryEachMissingRunSeparately() {
+        LocalDate cachedDay = LocalDate.of(2024, Month.MAY, 2);
+        WeatherEntity weather = buildWeatherEntity(20.0, LocalDateTime.of(2024, Month.MAY, 1, 10, 10, 10));
+        WeatherResponse expectedResponse = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 1, 10, 10, 10));
+
+        when(weatherRepository.findByCityAndDateRange(CITY, cachedDay.atStartOfDay(), cachedDay.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of());
+        when(weatherRepository.findByCityAndDateRange(CITY, cachedDay.minusDays(1).atStartOfDay(), cachedDay.atStartOfDay()))
+                .thenReturn(List.of(weather));
+        when(weatherRepository.findByCityAndDateRange(CITY, cachedDay.plusDays(1).atStartOfDay(), cachedDay.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of());
+        when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(expectedResponse);
+
+        weatherService.getWeatherHistoryByCityAndDateRange(CITY, cachedDay, cachedDay);
+        List<WeatherResponse> actualResponse = weatherService.getWeatherHistoryByCityAndDateRange(CITY,
+                cachedDay.minusDays(1), cachedDay.plusDays(1));
+
+        Assertions.assertThat(actualResponse).containsExactly(expectedResponse);
+
+        verify(weatherRepository, times(3)).findByCityAndDateRange(eq(CITY), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void testGetWeatherHistoryByCityAndDateRange_whenRangeIsLong_shouldQueryWithoutCachingDays() {
+        LocalDate startDate = LocalDate.of(2024, Month.JANUARY, 1);
+        LocalDate endDate = LocalDate.of(2024, Month.MAY, 1);
+
+        when(weatherRepository.findByCityAndDateRange(CITY, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of());
+
+        weatherService.getWeatherHistoryByCityAndDateRange(CITY, startDate, endDate);
+        weatherService.getWeatherHistoryByCityAndDateRange(CITY, startDate, endDate);
+
+        verify(weatherRepository, times(2)).findByCityAndDateRange(CITY, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+        Assertions.assertThat(cacheManager.getCache("cityWithDateRange").get("london|2024-01-01")).isNull();
+    }
+
+    @Test
+    public void testGetWeatherHistoryByCityAndDateRange_whenRangeIncludesToday_shouldNotCacheToday() {
+        LocalDate today = LocalDate.now();
+
+        when(weatherRepository.findByCityAndDateRange(CITY, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of());
+
+        weatherService.getWeatherHistoryByCityAndDateRange(CITY, today, today);
+        weatherService.getWeatherHistoryByCityAndDateRange(CITY, today, today);
+
+        verify(weatherRepository, times(2)).findByCityAndDateRange(CITY, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+    }
+
     @Test
     public void testGetWeatherHistoryByCityAndDateRange_whenInvalidDateRange_shouldThrowIllegalArgumentException() {
         LocalDate startDate = LocalDate.of(2024, Month.MAY, 1);
@@ -92,28 +342,50 @@ public class WeatherServiceTest {
     }
 
     @Test
-    public void testGetWeekAverageTemperatureByCity_shouldReturnAverageTemperature() {
-        WeatherEntity weather = buildWeatherEntity(20.0, LocalDateTime.now());
-        WeatherEntity weather2 = buildWeatherEntity(22.0, LocalDateTime.now());
+    public void testStreamWeatherHistoryByCityAndDateRange_shouldPassConvertedRowsToConsumerAndDetachEntities() {
+        LocalDate startDate = LocalDate.of(2024, Month.MAY, 1);
+        LocalDate endDate = LocalDate.of(2024, Month.MAY, 10);
+        WeatherEntity weather = buildWeatherEntity(20.0, LocalDateTime.of(2024, Month.MAY, 5, 10, 10, 10));
+        WeatherEntity weather2 = buildWeatherEntity(22.0, LocalDateTime.of(2024, Month.MAY, 4, 10, 10, 10));
+        WeatherResponse response = buildWeatherResponse(20.0, LocalDateTime.of(2024, Month.MAY, 5, 10, 10, 10));
+        WeatherResponse response2 = buildWeatherResponse(22.0, LocalDateTime.of(2024, Month.MAY, 4, 10, 10, 10));
+        AtomicBoolean streamClosed = new AtomicBoolean();
 
-        when(weatherRepository.findByCityAndDateRange(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(weather, weather2));
+        when(unitsContext.getUnits()).thenReturn("imperial");
+        when(weatherRepository.streamByCityAndDateRange(CITY, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(weather, weather2).onClose(() -> streamClosed.set(true)));
+        when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(response);
+        when(weatherMapper.weatherToWeatherResponse(weather2)).thenReturn(response2);
+
+        List<WeatherResponse> consumed = new ArrayList<>();
+        weatherService.streamWeatherHistoryByCityAndDateRange(CITY, startDate, endDate, consumed::add);
+
+        Assertions.assertThat(consumed)
+                .extracting(WeatherResponse::temperature)
+                .containsExactly(68.0, 71.6);
+        Assertions.assertThat(streamClosed).isTrue();
+        verify(entityManager, times(1)).detach(weather);
+        verify(entityManager, times(1)).detach(weather2);
+    }
+
+    @Test
+    public void testGetWeekAverageTemperatureByCity_shouldReturnAverageTemperature() {
+        when(weatherRollupRepository.findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(21.0));
 
         AverageWeatherResponse actualResponse = weatherService.getSevenDaysAverageTemperatureByCity(CITY);
 
         Assertions.assertThat(actualResponse.city()).isEqualTo(CITY);
         Assertions.assertThat(actualResponse.averageTemperature()).isEqualTo(21.0);
 
-        verify(weatherRepository, times(1)).findByCityAndDateRange(anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(weatherRollupRepository, times(1)).findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verifyNoInteractions(weatherRepository);
     }
 
     @Test
     public void testGetWeekAverageTemperatureByCity_whenImperialUnitsRequested_shouldReturnAverageTemperatureInFahrenheit() {
-        WeatherEntity weather = buildWeatherEntity(20.0, LocalDateTime.now());
-        WeatherEntity weather2 = buildWeatherEntity(22.0, LocalDateTime.now());
-
-        when(weatherRepository.findByCityAndDateRange(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(weather, weather2));
+        when(weatherRollupRepository.findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(21.0));
         when(unitsContext.getUnits()).thenReturn("imperial");
 
         AverageWeatherResponse actualResponse = weatherService.getSevenDaysAverageTemperatureByCity(CITY);
@@ -124,7 +396,32 @@ public class WeatherServiceTest {
         Assertions.assertThat(actualResponse.city()).isEqualTo(CITY);
         Assertions.assertThat(actualResponse.averageTemperature()).isEqualTo(expectedTemperatureFahrenheit);
 
-        verify(weatherRepository, times(1)).findByCityAndDateRange(anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(weatherRollupRepository, times(1)).findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void testGetWeekAverageTemperatureByCity_whenCachedForMetricCaller_shouldServeImperialCallerFromSameEntry() {
+        when(weatherRollupRepository.findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(20.0));
+
+        AverageWeatherResponse metricResponse = weatherService.getSevenDaysAverageTemperatureByCity(CITY);
+        when(unitsContext.getUnits()).thenReturn("imperial");
+        AverageWeatherResponse imperialResponse = weatherService.getSevenDaysAverageTemperatureByCity("LONDON");
+
+        Assertions.assertThat(metricResponse.averageTemperature()).isEqualTo(20.0);
+        Assertions.assertThat(imperialResponse.averageTemperature()).isEqualTo(68.0);
+        Assertions.assertThat(cacheManager.getCache("sevenDaysAverage").get("london", Double.class)).isEqualTo(20.0);
+
+        verify(weatherRollupRepository, times(1)).findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void testGetWeekAverageTemperatureByCity_whenNoReadingsFound_shouldThrowLocationNotFoundException() {
+        when(weatherRollupRepository.findAverageTemperatureByCity(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> weatherService.getSevenDaysAverageTemperatureByCity(CITY))
+                .isInstanceOf(LocationNotFoundException.class);
     }
 
     @Test
@@ -138,7 +435,7 @@ public class WeatherServiceTest {
         List<WeatherResponse> expectedResponses = List.of(expectedResponse, expectedResponse2);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(weatherRepository.findAllByLocationCityIgnoreCaseOrderByMeasurementCreatedAtDesc(anyString(), eq(pageable)))
+        when(weatherRepository.findHistoryPageByCity(anyString(), eq(pageable)))
                 .thenReturn(List.of(weather, weather2));
         when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(expectedResponse);
         when(weatherMapper.weatherToWeatherResponse(weather2)).thenReturn(expectedResponse2);
@@ -147,7 +444,7 @@ public class WeatherServiceTest {
 
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponses);
 
-        verify(weatherRepository, times(1)).findAllByLocationCityIgnoreCaseOrderByMeasurementCreatedAtDesc(anyString(), eq(pageable));
+        verify(weatherRepository, times(1)).findHistoryPageByCity(anyString(), eq(pageable));
     }
 
     private WeatherEntity buildWeatherEntity(Double temperature, LocalDateTime createdAt) {
@@ -176,6 +473,102 @@ public class WeatherServiceTest {
                 .build();
     }
 
+    @Test
+    public void testGetWeatherHistorySliceByCity_whenMoreRowsExist_shouldReturnSliceWithNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10);
+        WeatherEntity weather = buildWeatherEntity(20.0, createdAt);
+        WeatherEntity weather2 = buildWeatherEntity(21.0, createdAt.minusHours(1));
+        weather2.setId(2);
+        WeatherEntity weather3 = buildWeatherEntity(22.0, createdAt.minusHours(2));
+        WeatherResponse expectedResponse = buildWeatherResponse(20.0, createdAt);
+        WeatherResponse expectedResponse2 = buildWeatherResponse(21.0, createdAt.minusHours(1));
+
+        when(weatherRepository.findHistorySliceByCity(CITY, Limit.of(3))).thenReturn(List.of(weather, weather2, weather3));
+        when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(expectedResponse);
+        when(weatherMapper.weatherToWeatherResponse(weather2)).thenReturn(expectedResponse2);
+
+        WeatherHistorySliceResponse actualResponse = weatherService.getWeatherHistorySliceByCity(CITY, null, 2);
+
+        Assertions.assertThat(actualResponse.items()).containsExactly(expectedResponse, expectedResponse2);
+        Assertions.assertThat(HistoryCursor.decode(actualResponse.nextCursor()))
+                .isEqualTo(new HistoryCursor(createdAt.minusHours(1), 2));
+        verify(weatherMapper, never()).weatherToWeatherResponse(weather3);
+    }
+
+    @Test
+    public void testGetWeatherHistorySliceByCity_whenCursorPointsToLastSlice_shouldSeekPastCursorWithoutNextCursor() {
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2024, Month.MAY, 22, 10, 10, 10), 42);
+        WeatherEntity weather = buildWeatherEntity(20.0, cursor.createdAt().minusHours(1));
+        WeatherResponse expectedResponse = buildWeatherResponse(20.0, cursor.createdAt().minusHours(1));
+
+        when(weatherRepository.findHistorySliceByCityAfter(CITY, cursor.createdAt(), cursor.id(), Limit.of(21)))
+                .thenReturn(List.of(weather));
+        when(weatherMapper.weatherToWeatherResponse(weather)).thenReturn(expectedResponse);
+
+        WeatherHistorySliceResponse actualResponse = weatherService.getWeatherHistorySliceByCity(CITY, cursor, 20);
+
+        Assertions.assertThat(actualResponse.items()).containsExactly(expectedResponse);
+        Assertions.assertThat(actualResponse.nextCursor()).isNull();
+        verify(weatherRepository, never()).findHistorySliceByCity(anyString(), any(Limit.class));
+    }
+
+    @Test
+    public void testGetWeatherSeriesByCity_whenImperialUnitsRequested_shouldAlignRangeAndConvertOnlyTemperature() {
+        LocalDateTime bucketStart = LocalDateTime.of(2024, Month.MAY, 21, 10, 0);
+        WeatherRollupRow row = new WeatherRollupRow(bucketStart, 4, 80.0, 15.0, 25.0, 200.0, 40.0, 60.0, 8.0, 1.0, 3.0);
+
+        when(unitsContext.getUnits()).thenReturn("imperial");
+        when(weatherRollupRepository.findSeriesByCity(CITY, SeriesBucket.HOUR, bucketStart, bucketStart.plusHours(2)))
+                .thenReturn(List.of(row));
+
+        SeriesResponse actualResponse = weatherService.getWeatherSeriesByCity(CITY,
+                bucketStart.plusMinutes(15), bucketStart.plusMinutes(75), SeriesBucket.HOUR,
+                List.of(SeriesMetric.TEMPERATURE, SeriesMetric.HUMIDITY),
+                List.of(SeriesAggregation.AVG, SeriesAggregation.MAX));
+
+        Assertions.assertThat(actualResponse.timestamps()).containsExactly(bucketStart);
+        Assertions.assertThat(actualResponse.counts()).containsExactly(4L);
+        Assertions.assertThat(actualResponse.values())
+                .containsExactly(
+                        Map.entry("temperature.avg", List.of(68.0)),
+                        Map.entry("temperature.max", List.of(77.0)),
+                        Map.entry("humidity.avg", List.of(50.0)),
+                        Map.entry("humidity.max", List.of(60.0)));
+    }
+
+    @Test
+    public void testGetWeatherSeriesByCity_whenRangeIsInverted_shouldThrowInvalidSeriesRangeException() {
+        LocalDateTime from = LocalDateTime.of(2024, Month.MAY, 21, 10, 0);
+
+        Assertions.assertThatThrownBy(() -> weatherService.getWeatherSeriesByCity(CITY, from, from.minusDays(1),
+                        SeriesBucket.HOUR, List.of(SeriesMetric.TEMPERATURE), List.of(SeriesAggregation.AVG)))
+                .isInstanceOf(InvalidSeriesRangeException.class)
+                .hasFieldOrPropertyWithValue("messageKey", "errors.400.series_range.inverted");
+
+        verifyNoInteractions(weatherRollupRepository);
+    }
+
+    @Test
+    public void testGetWeatherSeriesByCity_whenRangeExceedsBucketLimit_shouldThrowInvalidSeriesRangeException() {
+        LocalDateTime from = LocalDateTime.of(2024, Month.MAY, 21, 10, 0);
+
+        Assertions.assertThatThrownBy(() -> weatherService.getWeatherSeriesByCity(CITY, from, from.plusHours(5001),
+                        SeriesBucket.HOUR, List.of(SeriesMetric.TEMPERATURE), List.of(SeriesAggregation.AVG)))
+                .isInstanceOf(InvalidSeriesRangeException.class)
+                .hasFieldOrPropertyWithValue("messageKey", "errors.400.series_range.too_many_buckets");
+
+        verifyNoInteractions(weatherRollupRepository);
+    }
+
+    private LatestWeatherEntity buildLatestWeatherEntity(Double temperature, LocalDateTime createdAt) {
+        WeatherEntity weather = buildWeatherEntity(temperature, createdAt);
+        return LatestWeatherEntity.builder()
+                .locationId(weather.getLocation().getId())
+                .measurement(weather.getMeasurement())
+                .location(weather.getLocation())
+                .build();
+    }
+
     private WeatherResponse buildWeatherResponse(Double temperature, LocalDateTime createdAt) {
         return WeatherResponse.builder()
                 .temperature(temperature)
@@ -187,4 +580,8 @@ public class WeatherServiceTest {
                 .createdAt(createdAt)
                 .build();
     }
+
+    private byte[] writeValueAsBytes(WeatherResponse response) throws Exception {
+        return new ObjectMapper().findAndRegisterModules().writeValueAsBytes(response);
+    }
 }
@@ -34,6 +34,12 @@ class TemperatureConverterTest {
         assertThat(convertedResponse.feelsLikeTemperature()).isEqualTo(22.0);
     }
 
+    @Test
+    public void testConvertTemperatureValue_whenUnitsAreImperial_shouldConvertOnlyForImperial() {
+        assertThat(TemperatureConverter.convertTemperature(20.0, "imperial")).isEqualTo(68.0);
+        assertThat(TemperatureConverter.convertTemperature(20.0, "metric")).isEqualTo(20.0);
+    }
+
     @Test
     public void testCelsiusToFahrenheit() {
         double celsius = 20.0;
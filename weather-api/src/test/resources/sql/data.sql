@@ -1,4 +1,5 @@
-TRUNCATE TABLE weather_data, sensors, user_locations, locations, users RESTART IDENTITY CASCADE;
+TRUNCATE TABLE measurement_dead_letters, revoked_tokens, user_token_revocations, city_access_stats, weather_hourly, weather_daily, latest_weather, weather_data, sensors, user_locations, locations, users RESTART IDENTITY CASCADE;
+UPDATE rollup_watermark SET processed_xid = 0 WHERE name = 'weather_rollup';
 
 -- ALTER SEQUENCE users_id_seq RESTART WITH 1;
 -- ALTER SEQUENCE locations_id_seq RESTART WITH 1;
@@ -0,0 +1,19 @@
+INSERT INTO locations (city, country)
+SELECT 'City ' || n, 'Country ' || (n % 50)
+FROM generate_series(1, 2000) AS n;
+
+INSERT INTO weather_data (temperature, wind_speed, wind_direction, humidity, description, sensor_id, location_id, created_at)
+SELECT round((random() * 40 - 10)::NUMERIC, 1),
+       round((random() * 10)::NUMERIC, 1),
+       'N',
+       round((random() * 100)::NUMERIC, 1),
+       'CLOUDY',
+       NULL,
+       l.id,
+       NOW() - n * INTERVAL '1 hour'
+FROM locations l
+         CROSS JOIN generate_series(1, 100) AS n;
+
+ANALYZE locations;
+ANALYZE weather_data;
+ANALYZE latest_weather;